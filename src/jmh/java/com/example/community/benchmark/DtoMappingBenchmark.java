@@ -0,0 +1,39 @@
+package com.example.community.benchmark;
+
+import com.example.community.domain.board.Board;
+import com.example.community.domain.board.dto.BoardResponseDto;
+import com.example.community.domain.comment.Comment;
+import com.example.community.domain.comment.dto.CommentResponseDto;
+import com.example.community.domain.user.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> 응답 DTO 변환 비용 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+
+    private Board board;
+    private Comment comment;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder().name("작성자").email("writer@example.com").build();
+        board = Board.builder().title("제목").content("내용".repeat(500)).user(user).build();
+        comment = Comment.builder().content("댓글").user(user).board(board).build();
+    }
+
+    @Benchmark
+    public BoardResponseDto boardResponseFrom() {
+        return BoardResponseDto.from(board);
+    }
+
+    @Benchmark
+    public CommentResponseDto commentResponseFrom() {
+        return CommentResponseDto.from(comment);
+    }
+}
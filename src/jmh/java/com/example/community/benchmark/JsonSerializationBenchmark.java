@@ -0,0 +1,58 @@
+package com.example.community.benchmark;
+
+import com.example.community.domain.board.Board;
+import com.example.community.domain.board.dto.BoardResponseDto;
+import com.example.community.domain.comment.Comment;
+import com.example.community.domain.comment.dto.CommentResponseDto;
+import com.example.community.domain.user.User;
+import com.example.community.global.common.CursorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 응답 JSON 직렬화 비용 측정 (Spring MVC와 같은 설정의 ObjectMapper 사용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private CursorResponse<BoardResponseDto> boards;
+    private CursorResponse<CommentResponseDto> comments;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        User user = User.builder().name("작성자").email("writer@example.com").build();
+        List<BoardResponseDto> boardRows = new ArrayList<>();
+        List<CommentResponseDto> commentRows = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Board board = Board.builder().title("제목 " + i).content("내용 ".repeat(200)).user(user).build();
+            boardRows.add(BoardResponseDto.from(board));
+            commentRows.add(CommentResponseDto.from(Comment.builder().content("댓글 " + i).user(user).board(board).build()));
+        }
+        boards = CursorResponse.of(boardRows, size, BoardResponseDto::getId);
+        comments = CursorResponse.of(commentRows, size, CommentResponseDto::getId);
+    }
+
+    @Benchmark
+    public byte[] serializeBoardPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(boards);
+    }
+
+    @Benchmark
+    public byte[] serializeCommentPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(comments);
+    }
+}
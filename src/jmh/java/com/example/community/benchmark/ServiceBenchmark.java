@@ -0,0 +1,139 @@
+package com.example.community.benchmark;
+
+import com.example.community.CommunityApplication;
+import com.example.community.domain.board.BoardService;
+import com.example.community.domain.board.dto.BoardCreateDto;
+import com.example.community.domain.board.dto.BoardResponseDto;
+import com.example.community.domain.board.dto.BoardSummaryDto;
+import com.example.community.domain.comment.CommentService;
+import com.example.community.domain.comment.dto.CommentCreateDto;
+import com.example.community.domain.comment.dto.CommentResponseDto;
+import com.example.community.domain.user.UserService;
+import com.example.community.domain.user.dto.UserCreateDto;
+import com.example.community.global.common.CursorRequest;
+import com.example.community.global.common.CursorResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 계층 읽기/쓰기 경로 측정
+ * 인메모리 H2로 애플리케이션 컨텍스트를 한 번 띄우고 데이터를 채운 뒤 서비스 메서드를 직접 호출한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceBenchmark {
+
+    private static final int USER_COUNT = 100;
+    private static final int BOARD_COUNT = 1_000;
+    private static final int COMMENTS_PER_BOARD = 5;
+    // 일괄 등록과 건별 등록을 비교할 때 한 번에 넣는 댓글 수
+    private static final int INSERT_ROWS = 500;
+
+    private ConfigurableApplicationContext context;
+    private BoardService boardService;
+    private CommentService commentService;
+    private List<Long> userIds;
+    private List<Long> boardIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(CommunityApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run();
+        UserService userService = context.getBean(UserService.class);
+        boardService = context.getBean(BoardService.class);
+        commentService = context.getBean(CommentService.class);
+
+        userIds = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            userIds.add(userService.create(new UserCreateDto("user" + i, "user" + i + "@example.com")).getId());
+        }
+        boardIds = new ArrayList<>();
+        for (int i = 0; i < BOARD_COUNT; i++) {
+            Long boardId = boardService.create(new BoardCreateDto("제목 " + i, "내용 ".repeat(200), randomUserId())).getId();
+            boardIds.add(boardId);
+            for (int j = 0; j < COMMENTS_PER_BOARD; j++) {
+                commentService.create(new CommentCreateDto("댓글 " + j, randomUserId(), boardId));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CursorResponse<BoardSummaryDto> boardFindAll() {
+        return boardService.findAll(new CursorRequest(randomBoardId(), CursorRequest.DEFAULT_LIMIT));
+    }
+
+    @Benchmark
+    public BoardResponseDto boardFindById() {
+        return boardService.findById(randomBoardId());
+    }
+
+    @Benchmark
+    public CursorResponse<CommentResponseDto> commentFindAllByBoard() {
+        return commentService.findAllByBoardId(randomBoardId(), new CursorRequest(null, null));
+    }
+
+    @Benchmark
+    public BoardResponseDto boardCreate() {
+        return boardService.create(new BoardCreateDto("벤치마크", "내용", randomUserId()));
+    }
+
+    @Benchmark
+    public CommentResponseDto commentCreate() {
+        return commentService.create(new CommentCreateDto("벤치마크 댓글", randomUserId(), randomBoardId()));
+    }
+
+    // 아래 두 측정은 초당 등록 행 수(rows/sec)로 비교한다
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(INSERT_ROWS)
+    public List<CommentResponseDto> commentBulkInsert() {
+        return commentService.createAll(newComments());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(INSERT_ROWS)
+    public List<CommentResponseDto> commentSingleInsert() {
+        List<CommentResponseDto> created = new ArrayList<>(INSERT_ROWS);
+        for (CommentCreateDto dto : newComments()) {
+            created.add(commentService.create(dto));
+        }
+        return created;
+    }
+
+    private List<CommentCreateDto> newComments() {
+        List<CommentCreateDto> dtos = new ArrayList<>(INSERT_ROWS);
+        for (int i = 0; i < INSERT_ROWS; i++) {
+            dtos.add(new CommentCreateDto("벤치마크 댓글 " + i, randomUserId(), randomBoardId()));
+        }
+        return dtos;
+    }
+
+    private Long randomUserId() {
+        return userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+    }
+
+    private Long randomBoardId() {
+        return boardIds.get(ThreadLocalRandom.current().nextInt(boardIds.size()));
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.community.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+final class EndpointStats {
+
+    // 마이크로초 단위로 기록한다
+    private final Histogram histogram = new ConcurrentHistogram(3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    void record(long latencyMicros, boolean success) {
+        histogram.recordValue(Math.max(latencyMicros, 1));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    Histogram getHistogram() {
+        return histogram;
+    }
+
+    long getCount() {
+        return histogram.getTotalCount();
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+    long getDropped() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.community.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트 설정. 모두 -Dloadtest.* 시스템 프로퍼티로 바꿀 수 있다.
+ */
+final class LoadTestConfig {
+
+    // 단계별 초당 요청 수. 여러 개를 주면 차례로 올려 가며 처리량 한계를 찾는다
+    final List<Integer> rates;
+    // 지정하면 open-model 대신 동시 클라이언트 수를 고정한 closed-model로 측정한다 (예: 1000,10000)
+    final List<Integer> clients;
+    final Duration warmup;
+    final Duration duration;
+    final Map<Operation, Integer> mix;
+    final int users;
+    final int boards;
+    final int maxInFlight;
+    final String profiles;
+    final Path output;
+
+    private LoadTestConfig() {
+        rates = parseList(property("rates", "200"));
+        clients = parseList(property("clients", ""));
+        // 요청 간격을 1초 / rate (ns)로 잡으므로 0 이하이거나 1e9를 넘는 값은 간격을 만들 수 없다
+        requireRange("rates", rates, 1, (int) TimeUnit.SECONDS.toNanos(1));
+        requireRange("clients", clients, 1, Integer.MAX_VALUE);
+        warmup = Duration.ofSeconds(Long.parseLong(property("warmup", "5")));
+        duration = Duration.ofSeconds(Long.parseLong(property("duration", "30")));
+        mix = parseMix(property("mix", "boardRead=80,commentCreate=15,boardUpdate=5"));
+        users = Integer.parseInt(property("users", "100"));
+        boards = Integer.parseInt(property("boards", "1000"));
+        maxInFlight = Integer.parseInt(property("maxInFlight", "10000"));
+        profiles = property("profiles", "");
+        output = Path.of(property("output", "build/reports/loadtest"));
+    }
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig();
+    }
+
+    List<Operation> weightedOperations() {
+        List<Operation> operations = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                operations.add(operation);
+            }
+        });
+        return operations;
+    }
+
+    private static List<Integer> parseList(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .map(Integer::parseInt)
+                .collect(Collectors.toList());
+    }
+
+    private static void requireRange(String name, List<Integer> values, int min, int max) {
+        for (int value : values) {
+            if (value < min || value > max) {
+                throw new IllegalArgumentException(
+                        "loadtest." + name + " must be between " + min + " and " + max + ", but was " + value);
+            }
+        }
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            mix.put(Operation.fromKey(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.community.loadtest;
+
+import com.example.community.CommunityApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 내장 부하 테스트
+ * CommunityApplication을 랜덤 포트로 띄우고 데이터를 채운 뒤, 응답 속도와 무관하게 정해진 간격으로 요청을 보내는
+ * open-model 부하를 건다. 지연시간은 "보내기로 예정된 시각"부터 측정해 coordinated omission을 피한다.
+ */
+public class LoadTestRunner {
+
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final LoadTestConfig config;
+    private final URI baseUri;
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> boardIds = new ArrayList<>();
+
+    LoadTestRunner(LoadTestConfig config, URI baseUri) {
+        this.config = config;
+        this.baseUri = baseUri;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CommunityApplication.class)
+                .profiles(config.profiles.isBlank() ? new String[0] : config.profiles.split(","))
+                .properties(
+                        "server.port=0",
+                        "spring.main.banner-mode=off",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadTestRunner runner = new LoadTestRunner(config, URI.create("http://localhost:" + port));
+            runner.seed();
+            runner.run();
+        }
+    }
+
+    void seed() throws IOException, InterruptedException {
+        for (int i = 0; i < config.users; i++) {
+            userIds.add(post("/users", Map.of("name", "user" + i, "email", "loadtest" + i + "@example.com")));
+        }
+        for (int i = 0; i < config.boards; i++) {
+            boardIds.add(post("/boards", Map.of("title", "제목 " + i, "content", "내용 ".repeat(200), "userId", randomUserId())));
+        }
+    }
+
+    void run() throws IOException, InterruptedException {
+        Files.createDirectories(config.output);
+        try (PrintStream summary = new PrintStream(Files.newOutputStream(config.output.resolve("summary.txt")), true)) {
+            if (!config.clients.isEmpty()) {
+                for (int clients : config.clients) {
+                    runClosedStep(clients, config.warmup);
+                    Map<Operation, EndpointStats> stats = runClosedStep(clients, config.duration);
+                    String label = clients + " concurrent clients";
+                    report(label, stats, summary);
+                    report(label, stats, System.out);
+                    writeHistograms("clients-" + clients, stats);
+                }
+                return;
+            }
+            for (int rate : config.rates) {
+                runStep(rate, config.warmup);
+                Map<Operation, EndpointStats> stats = runStep(rate, config.duration);
+                String label = "target " + rate + " req/s";
+                report(label, stats, summary);
+                report(label, stats, System.out);
+                writeHistograms("rate-" + rate, stats);
+            }
+        }
+    }
+
+    private Map<Operation, EndpointStats> runStep(int rate, Duration duration) throws InterruptedException {
+        Map<Operation, EndpointStats> stats = newStats();
+        List<Operation> operations = config.weightedOperations();
+        AtomicInteger inFlight = new AtomicInteger();
+
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (long i = 0; ; i++) {
+            long intended = start + i * interval;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Operation operation = operations.get(ThreadLocalRandom.current().nextInt(operations.size()));
+            EndpointStats endpointStats = stats.get(operation);
+            if (inFlight.get() >= config.maxInFlight) {
+                // 클라이언트 쪽 한계. 서버가 받지 못한 요청으로 따로 집계한다
+                endpointStats.recordDropped();
+                continue;
+            }
+            inFlight.incrementAndGet();
+            httpClient.sendAsync(request(operation), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended);
+                        endpointStats.record(latencyMicros, error == null && response.statusCode() < 400);
+                        inFlight.decrementAndGet();
+                    });
+        }
+
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return stats;
+    }
+
+    // 클라이언트마다 가상 스레드 하나가 응답을 받을 때까지 기다렸다가 다음 요청을 보낸다
+    private Map<Operation, EndpointStats> runClosedStep(int clients, Duration duration) {
+        Map<Operation, EndpointStats> stats = newStats();
+        List<Operation> operations = config.weightedOperations();
+        long end = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < end) {
+                        Operation operation = operations.get(ThreadLocalRandom.current().nextInt(operations.size()));
+                        long startedAt = System.nanoTime();
+                        boolean success;
+                        try {
+                            success = httpClient.send(request(operation), HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+                        } catch (IOException e) {
+                            success = false;
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        stats.get(operation).record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt), success);
+                    }
+                });
+            }
+        }
+        return stats;
+    }
+
+    private Map<Operation, EndpointStats> newStats() {
+        Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+        config.mix.keySet().forEach(operation -> stats.put(operation, new EndpointStats()));
+        return stats;
+    }
+
+    private HttpRequest request(Operation operation) {
+        try {
+            return switch (operation) {
+                case BOARD_READ -> get("/boards/" + randomBoardId());
+                case BOARD_LIST -> get("/boards?limit=20&after=" + (randomBoardId() - 1));
+                case COMMENT_LIST -> get("/boards/" + randomBoardId() + "/comments");
+                case USER_READ -> get("/users/" + randomUserId());
+                case BOARD_UPDATE -> json("/boards/" + randomBoardId(), "PUT",
+                        Map.of("title", "수정된 제목", "content", "수정된 내용 ".repeat(200)));
+                case COMMENT_CREATE -> json("/comments", "POST",
+                        Map.of("content", "부하 테스트 댓글", "userId", randomUserId(), "boardId", randomBoardId()));
+            };
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void report(String label, Map<Operation, EndpointStats> stats, PrintStream out) {
+        double seconds = config.duration.toMillis() / 1000.0;
+        out.printf("== %s, %ds ==%n", label, config.duration.toSeconds());
+        out.printf("%-28s %9s %7s %7s %10s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "dropped", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        stats.forEach((operation, endpointStats) -> out.printf("%-28s %9d %7d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                operation.getEndpoint(),
+                endpointStats.getCount(),
+                endpointStats.getErrors(),
+                endpointStats.getDropped(),
+                endpointStats.getCount() / seconds,
+                millis(endpointStats, 50),
+                millis(endpointStats, 99),
+                millis(endpointStats, 99.9),
+                endpointStats.getHistogram().getMaxValue() / 1000.0));
+    }
+
+    private void writeHistograms(String name, Map<Operation, EndpointStats> stats) throws IOException {
+        Path directory = Files.createDirectories(config.output.resolve(name));
+        for (Map.Entry<Operation, EndpointStats> entry : stats.entrySet()) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(entry.getKey().getFileName() + ".hgrm")))) {
+                // 마이크로초로 기록했으므로 1000으로 나눠 밀리초 단위로 출력한다
+                entry.getValue().getHistogram().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static double millis(EndpointStats stats, double percentile) {
+        return stats.getHistogram().getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private Long post(String path, Object body) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(json(path, "POST", body), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("Seeding failed: " + path + " -> " + response.statusCode() + " " + response.body());
+        }
+        return objectMapper.readTree(response.body()).get("id").asLong();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).GET().build();
+    }
+
+    private HttpRequest json(String path, String method, Object body) throws IOException {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private Long randomUserId() {
+        return userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+    }
+
+    private Long randomBoardId() {
+        return boardIds.get(ThreadLocalRandom.current().nextInt(boardIds.size()));
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.community.loadtest;
+
+enum Operation {
+
+    BOARD_READ("boardRead", "GET /boards/{id}"),
+    BOARD_LIST("boardList", "GET /boards"),
+    BOARD_UPDATE("boardUpdate", "PUT /boards/{id}"),
+    COMMENT_CREATE("commentCreate", "POST /comments"),
+    COMMENT_LIST("commentList", "GET /boards/{id}/comments"),
+    USER_READ("userRead", "GET /users/{id}");
+
+    private final String key;
+    private final String endpoint;
+
+    Operation(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    String getEndpoint() {
+        return endpoint;
+    }
+
+    String getFileName() {
+        return key;
+    }
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + key);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.community.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시간 벤치마크
+ * 설정별로 CommunityApplication을 별도 JVM으로 여러 번 띄워, 프로세스 시작부터 첫 요청(GET /boards)이 성공할 때까지의
+ * 시간(time-to-first-request)을 잰다. 기본 설정과 faststart 프로필(AOT, CDS 유무)을 비교한다.
+ */
+public class StartupBenchmark {
+
+    private static final String MAIN_CLASS = "com.example.community.CommunityApplication";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+    private static final long POLL_INTERVAL_MILLIS = 5;
+
+    private final String classpath;
+    private final Path output;
+    private final int iterations;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+
+    StartupBenchmark(String classpath, Path output, int iterations) {
+        this.classpath = classpath;
+        this.output = output;
+        this.iterations = iterations;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String classpath = System.getProperty("startup.classpath");
+        String cdsArchive = System.getProperty("startup.cdsArchive");
+        Path output = Path.of(System.getProperty("startup.output", "build/reports/startup"));
+        int iterations = Integer.parseInt(System.getProperty("startup.iterations", "5"));
+        Files.createDirectories(output);
+
+        List<String> fastStart = List.of("-Dspring.aot.enabled=true", "-Dspring.profiles.active=faststart");
+        List<String> fastStartWithCds = new ArrayList<>(fastStart);
+        fastStartWithCds.add("-XX:SharedArchiveFile=" + cdsArchive);
+
+        StartupBenchmark benchmark = new StartupBenchmark(classpath, output, iterations);
+        List<String> report = new ArrayList<>();
+        report.add(benchmark.measure("baseline", List.of()));
+        report.add(benchmark.measure("faststart", fastStart));
+        report.add(benchmark.measure("faststart+cds", fastStartWithCds));
+
+        Path summary = output.resolve("summary.txt");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(summary))) {
+            report.forEach(out::println);
+        }
+        report.forEach(System.out::println);
+        System.out.println("Report written to " + summary);
+    }
+
+    private String measure(String label, List<String> jvmArgs) throws Exception {
+        List<Long> samples = new ArrayList<>();
+        for (int i = 0; i < iterations; i++) {
+            samples.add(timeToFirstRequest(label, i, jvmArgs));
+        }
+        Collections.sort(samples);
+        return String.format("%-14s time-to-first-request ms: median=%d min=%d max=%d samples=%s",
+                label, samples.get(samples.size() / 2), samples.get(0), samples.get(samples.size() - 1), samples);
+    }
+
+    private long timeToFirstRequest(String label, int iteration, List<String> jvmArgs) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(javaExecutable());
+        command.addAll(jvmArgs);
+        command.addAll(Arrays.asList("-cp", classpath, MAIN_CLASS, "--server.port=" + port, "--spring.main.banner-mode=off"));
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/boards"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+
+        long startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(output.resolve(label.replace('+', '-') + "-" + iteration + ".log").toFile())
+                .start();
+        try {
+            long deadline = startedAt + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(label + " exited with " + process.exitValue() + " before serving a request");
+                }
+                if (isServing(request)) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                }
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            }
+            throw new IllegalStateException(label + " did not serve a request within " + STARTUP_TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private boolean isServing(HttpRequest request) throws InterruptedException {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static String javaExecutable() {
+        return ProcessHandle.current().info().command()
+                .orElse(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.community.domain.archive;
+
+import com.example.community.domain.archive.dto.ArchiveReportDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/archive")
+@RequiredArgsConstructor
+public class ArchiveController {
+
+    private final BoardArchiver boardArchiver;
+
+    // 설정한 기간보다 오래된 게시글을 지금 보관한다
+    @PostMapping
+    public ResponseEntity<ArchiveReportDto> archive() {
+        return ResponseEntity.ok(boardArchiver.archive());
+    }
+
+    @GetMapping
+    public ResponseEntity<ArchiveReportDto> lastReport() {
+        return boardArchiver.getLastReport()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+}
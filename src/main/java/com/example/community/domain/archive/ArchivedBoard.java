@@ -0,0 +1,63 @@
+package com.example.community.domain.archive;
+
+import com.example.community.domain.board.Board;
+import com.example.community.domain.board.dto.BoardResponseDto;
+import com.example.community.domain.comment.Comment;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 보관 행에 압축해 저장하는 게시글 스냅샷
+ * 작성자 이름은 보관 시점 값으로 고정된다. 댓글은 id 순으로 저장한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedBoard {
+
+    private Long id;
+    private String title;
+    private String content;
+    private Long userId;
+    private String userName;
+    private LocalDateTime createdAt;
+    private long viewCount;
+    private Long version;
+    private Long userVersion;
+    private List<ArchivedComment> comments;
+
+    public static ArchivedBoard of(Board board, List<Comment> comments) {
+        return new ArchivedBoard(
+                board.getId(),
+                board.getTitle(),
+                board.getContent(),
+                board.getUser().getId(),
+                board.getUser().getName(),
+                board.getCreatedAt(),
+                board.getViewCount(),
+                board.getVersion(),
+                board.getUser().getVersion(),
+                comments.stream()
+                        .sorted(Comparator.comparing(Comment::getId))
+                        .map(ArchivedComment::from)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    public BoardResponseDto toResponseDto() {
+        return new BoardResponseDto(id, title, content, userId, userName, createdAt, viewCount, version, userVersion, true);
+    }
+
+    public Optional<ArchivedComment> findComment(Long commentId) {
+        return comments.stream()
+                .filter(comment -> comment.getId().equals(commentId))
+                .findFirst();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.community.domain.archive;
+
+import com.example.community.domain.comment.Comment;
+import com.example.community.domain.comment.dto.CommentResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedComment {
+
+    private Long id;
+    private String content;
+    private Long userId;
+    private String userName;
+    private Long parentId;
+    private int depth;
+    private String path;
+    private LocalDateTime createdAt;
+
+    public static ArchivedComment from(Comment comment) {
+        return new ArchivedComment(
+                comment.getId(),
+                comment.getContent(),
+                comment.getUser().getId(),
+                comment.getUser().getName(),
+                comment.getParentId(),
+                comment.getDepth(),
+                comment.getPath(),
+                comment.getCreatedAt()
+        );
+    }
+
+    public CommentResponseDto toResponseDto(Long boardId) {
+        return new CommentResponseDto(id, content, userId, userName, boardId, parentId, depth, createdAt);
+    }
+}
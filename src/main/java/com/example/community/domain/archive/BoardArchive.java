@@ -0,0 +1,47 @@
+package com.example.community.domain.archive;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 게시글
+ * 게시글과 댓글 전체를 JSON으로 직렬화해 gzip으로 압축한 한 행. 보관된 게시글은 읽기 전용이다.
+ */
+@Entity
+@Table(name = "board_archive")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BoardArchive {
+
+    // 원래 게시글 id를 그대로 쓴다
+    @Id
+    private Long boardId;
+
+    @Column(nullable = false)
+    private int commentCount;
+
+    // 압축 전 JSON 크기. 압축률 보고용
+    @Column(nullable = false)
+    private long rawSize;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] payload;
+
+    private LocalDateTime boardCreatedAt;
+
+    private LocalDateTime archivedAt;
+
+    public BoardArchive(Long boardId, int commentCount, long rawSize, byte[] payload, LocalDateTime boardCreatedAt) {
+        this.boardId = boardId;
+        this.commentCount = commentCount;
+        this.rawSize = rawSize;
+        this.payload = payload;
+        this.boardCreatedAt = boardCreatedAt;
+        this.archivedAt = LocalDateTime.now();
+    }
+}
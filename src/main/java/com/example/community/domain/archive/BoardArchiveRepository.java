@@ -0,0 +1,6 @@
+package com.example.community.domain.archive;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BoardArchiveRepository extends JpaRepository<BoardArchive, Long> {
+}
@@ -0,0 +1,95 @@
+package com.example.community.domain.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보관 게시글 저장소
+ * 운영 테이블에서 찾지 못한 게시글·댓글을 읽는 느린 경로다. 읽을 때마다 보관 행 하나를 풀어 필요한 부분만 꺼낸다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BoardArchiveStore {
+
+    private final BoardArchiveRepository boardArchiveRepository;
+    private final CommentArchiveIndexRepository commentArchiveIndexRepository;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    // 보관한 행을 돌려준다. id를 직접 지정하는 엔티티라 save(merge)의 선행 SELECT를 피하려고 persist 한다
+    @Transactional
+    public BoardArchive save(ArchivedBoard board) {
+        byte[] json = writeJson(board);
+        BoardArchive archive = new BoardArchive(board.getId(), board.getComments().size(), json.length, gzip(json), board.getCreatedAt());
+        entityManager.persist(archive);
+        board.getComments().forEach(comment -> entityManager.persist(new CommentArchiveIndex(comment.getId(), board.getId())));
+        return archive;
+    }
+
+    public boolean exists(Long boardId) {
+        return boardArchiveRepository.existsById(boardId);
+    }
+
+    public Optional<ArchivedBoard> findBoard(Long boardId) {
+        return boardArchiveRepository.findById(boardId).map(this::read);
+    }
+
+    public List<ArchivedBoard> findBoards(Collection<Long> boardIds) {
+        return boardArchiveRepository.findAllById(boardIds).stream()
+                .map(this::read)
+                .collect(Collectors.toList());
+    }
+
+    public Optional<ArchivedBoard> findBoardByCommentId(Long commentId) {
+        return commentArchiveIndexRepository.findBoardIdByCommentId(commentId)
+                .flatMap(this::findBoard);
+    }
+
+    @Transactional
+    public void delete(Long boardId) {
+        commentArchiveIndexRepository.deleteByBoardId(boardId);
+        boardArchiveRepository.deleteById(boardId);
+    }
+
+    private ArchivedBoard read(BoardArchive archive) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(archive.getPayload()))) {
+            return objectMapper.readValue(in, ArchivedBoard.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read archived board " + archive.getBoardId(), e);
+        }
+    }
+
+    private byte[] writeJson(ArchivedBoard board) {
+        try {
+            return objectMapper.writeValueAsBytes(board);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write archived board " + board.getId(), e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.community.domain.archive;
+
+import com.example.community.domain.archive.dto.ArchiveReportDto;
+import com.example.community.domain.board.Board;
+import com.example.community.domain.board.BoardCache;
+import com.example.community.domain.board.BoardRepository;
+import com.example.community.domain.board.BoardSearchIndex;
+import com.example.community.domain.board.BoardViewCounter;
+import com.example.community.domain.comment.Comment;
+import com.example.community.domain.comment.CommentRepository;
+import com.example.community.global.exception.ConflictException;
+import com.example.community.global.transaction.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 오래된 게시글 보관기
+ * 설정한 기간보다 오래된 게시글과 댓글을 배치 단위로 board_archive에 압축해 옮기고 운영 테이블에서 지운다.
+ * 배치마다 한 트랜잭션이라, 도중에 실패해도 이미 옮긴 배치만 반영된다.
+ */
+@Slf4j
+@Component
+public class BoardArchiver {
+
+    // IN 절에 넣는 댓글 id 수 상한
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+    private final BoardArchiveStore boardArchiveStore;
+    private final BoardCache boardCache;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardViewCounter boardViewCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final int batchSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile ArchiveReportDto lastReport;
+
+    public BoardArchiver(BoardRepository boardRepository,
+                         CommentRepository commentRepository,
+                         BoardArchiveStore boardArchiveStore,
+                         BoardCache boardCache,
+                         BoardSearchIndex boardSearchIndex,
+                         BoardViewCounter boardViewCounter,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${community.archive.enabled}") boolean enabled,
+                         @Value("${community.archive.max-age}") Duration maxAge,
+                         @Value("${community.archive.batch-size}") int batchSize) {
+        this.boardRepository = boardRepository;
+        this.commentRepository = commentRepository;
+        this.boardArchiveStore = boardArchiveStore;
+        this.boardCache = boardCache;
+        this.boardSearchIndex = boardSearchIndex;
+        this.boardViewCounter = boardViewCounter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${community.archive.cron}")
+    public void scheduledArchive() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            archive();
+        } catch (ConflictException e) {
+            log.info("Skipping scheduled board archive: {}", e.getMessage());
+        }
+    }
+
+    public ArchiveReportDto archive() {
+        return archiveCreatedBefore(LocalDateTime.now().minus(maxAge));
+    }
+
+    // 동시에 두 번 돌면 같은 게시글을 옮기려다 충돌하므로, 이미 실행 중이면 기다리지 않고 거절한다 (모니터 락은 가상 스레드의 캐리어를 붙잡는다)
+    public ArchiveReportDto archiveCreatedBefore(LocalDateTime cutoff) {
+        if (!running.compareAndSet(false, true)) {
+            throw new ConflictException("Board archive is already running");
+        }
+        try {
+            return runArchive(cutoff);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public Optional<ArchiveReportDto> getLastReport() {
+        return Optional.ofNullable(lastReport);
+    }
+
+    private ArchiveReportDto runArchive(LocalDateTime cutoff) {
+        long startedAt = System.nanoTime();
+        // 스냅샷에 최신 조회수가 들어가도록 먼저 반영한다. 보관된 게시글의 조회수는 더 이상 늘지 않는다
+        boardViewCounter.flush();
+        long hotBoardsBefore = boardRepository.count();
+        long hotCommentsBefore = commentRepository.count();
+
+        long boards = 0;
+        long comments = 0;
+        long rawBytes = 0;
+        long compressedBytes = 0;
+        BatchResult batch;
+        do {
+            try {
+                batch = Objects.requireNonNull(transactionTemplate.execute(status -> archiveBatch(cutoff)));
+            } catch (DataAccessException e) {
+                // 보관 도중 새 댓글이 달린 게시글은 FK에 걸려 롤백된다. 다음 실행에서 다시 시도한다
+                log.warn("Board archive batch failed, stopping this run", e);
+                break;
+            }
+            boards += batch.boards;
+            comments += batch.comments;
+            rawBytes += batch.rawBytes;
+            compressedBytes += batch.compressedBytes;
+        } while (batch.boards == batchSize);
+
+        ArchiveReportDto report = new ArchiveReportDto(cutoff, boards, comments,
+                hotBoardsBefore, boardRepository.count(), hotCommentsBefore, commentRepository.count(),
+                rawBytes, compressedBytes, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("Archived {} boards and {} comments created before {}: boards {} -> {}, comments {} -> {}, {} -> {} bytes",
+                boards, comments, cutoff, report.getHotBoardsBefore(), report.getHotBoardsAfter(),
+                report.getHotCommentsBefore(), report.getHotCommentsAfter(), rawBytes, compressedBytes);
+        lastReport = report;
+        return report;
+    }
+
+    private BatchResult archiveBatch(LocalDateTime cutoff) {
+        List<Long> ids = boardRepository.findIdsCreatedBefore(cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return new BatchResult(0, 0, 0, 0);
+        }
+        List<Board> boards = boardRepository.findAllWithUserByIdIn(ids);
+        List<Comment> comments = commentRepository.findAllWithUserByBoardIdIn(ids);
+        Map<Long, List<Comment>> commentsByBoard = comments.stream()
+                .collect(Collectors.groupingBy(comment -> comment.getBoard().getId()));
+
+        long rawBytes = 0;
+        long compressedBytes = 0;
+        for (Board board : boards) {
+            BoardArchive archive = boardArchiveStore.save(ArchivedBoard.of(board, commentsByBoard.getOrDefault(board.getId(), List.of())));
+            rawBytes += archive.getRawSize();
+            compressedBytes += archive.getPayload().length;
+        }
+
+        // 읽어 둔 댓글만 지운다. 그 사이 달린 댓글이 있으면 게시글 삭제가 FK에 걸려 배치 전체가 롤백된다
+        List<Long> commentIds = comments.stream().map(Comment::getId).collect(Collectors.toList());
+        for (int from = 0; from < commentIds.size(); from += DELETE_CHUNK_SIZE) {
+            commentRepository.deleteAllByIdInBatch(commentIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, commentIds.size())));
+        }
+        boardRepository.deleteAllByIdInBatch(ids);
+        ids.forEach(boardCache::evict);
+        TransactionCallbacks.afterCommit(() -> ids.forEach(id -> {
+            boardSearchIndex.remove(id);
+            boardViewCounter.discard(id);
+        }));
+        return new BatchResult(boards.size(), comments.size(), rawBytes, compressedBytes);
+    }
+
+    private static final class BatchResult {
+
+        private final int boards;
+        private final int comments;
+        private final long rawBytes;
+        private final long compressedBytes;
+
+        private BatchResult(int boards, int comments, long rawBytes, long compressedBytes) {
+            this.boards = boards;
+            this.comments = comments;
+            this.rawBytes = rawBytes;
+            this.compressedBytes = compressedBytes;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.community.domain.archive;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관된 댓글 id → 게시글 id 색인
+ * 댓글 id만으로 조회할 때 어느 보관 행을 풀어야 하는지 찾는다.
+ */
+@Entity
+@Table(name = "comment_archive_index", indexes = @Index(name = "idx_comment_archive_index_board_id", columnList = "board_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CommentArchiveIndex {
+
+    @Id
+    private Long commentId;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    public CommentArchiveIndex(Long commentId, Long boardId) {
+        this.commentId = commentId;
+        this.boardId = boardId;
+    }
+}
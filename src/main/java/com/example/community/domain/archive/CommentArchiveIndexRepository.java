@@ -0,0 +1,18 @@
+package com.example.community.domain.archive;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface CommentArchiveIndexRepository extends JpaRepository<CommentArchiveIndex, Long> {
+
+    @Query("select i.boardId from CommentArchiveIndex i where i.commentId = :commentId")
+    Optional<Long> findBoardIdByCommentId(@Param("commentId") Long commentId);
+
+    @Modifying
+    @Query("delete from CommentArchiveIndex i where i.boardId = :boardId")
+    int deleteByBoardId(@Param("boardId") Long boardId);
+}
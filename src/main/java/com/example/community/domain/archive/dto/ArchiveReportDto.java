@@ -0,0 +1,25 @@
+package com.example.community.domain.archive.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class ArchiveReportDto {
+
+    // 이 시각 이전에 작성된 게시글이 보관 대상
+    private LocalDateTime cutoff;
+    private long archivedBoards;
+    private long archivedComments;
+    // 보관 전후 운영 테이블 행 수
+    private long hotBoardsBefore;
+    private long hotBoardsAfter;
+    private long hotCommentsBefore;
+    private long hotCommentsAfter;
+    // 이번에 보관한 데이터의 압축 전후 크기 (byte)
+    private long rawBytes;
+    private long compressedBytes;
+    private long elapsedMillis;
+}
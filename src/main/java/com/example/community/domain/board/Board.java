@@ -10,7 +10,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "boards")
+@Table(name = "boards", indexes = @Index(name = "idx_boards_created_at", columnList = "created_at"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Board {
@@ -29,6 +29,13 @@ public class Board {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // 조회수는 BoardViewCounter가 직접 UPDATE 하므로, 엔티티 수정 시 이전 값으로 덮어쓰지 않게 한다
+    @Column(nullable = false, updatable = false)
+    private long viewCount;
+
+    @Version
+    private Long version;
+
     private LocalDateTime createdAt;
 
     @Builder
@@ -0,0 +1,13 @@
+package com.example.community.domain.board;
+
+/**
+ * 게시글 작성자 조회용 프로젝션 (본문을 읽지 않는다)
+ */
+public interface BoardAuthor {
+
+    Long getId();
+
+    Long getUserId();
+
+    String getTitle();
+}
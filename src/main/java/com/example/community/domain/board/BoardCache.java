@@ -0,0 +1,75 @@
+package com.example.community.domain.board;
+
+import com.example.community.domain.board.dto.BoardResponseDto;
+import com.example.community.domain.user.UserUpdatedEvent;
+import com.example.community.global.cache.CacheStatsDto;
+import com.example.community.global.cache.CacheStatsProvider;
+import com.example.community.global.cache.CachedResponse;
+import com.example.community.global.cache.ResponseCache;
+import com.example.community.global.cache.ResponseSerializer;
+import com.example.community.global.transaction.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+public class BoardCache implements CacheStatsProvider {
+
+    private final ResponseCache<BoardResponseDto> cache;
+
+    // 항목 수가 아니라 직렬화된 응답 크기 기준으로 메모리 예산을 잡는다
+    // 조회수는 ETag(버전)에 포함되지 않으므로 직렬화된 본문에서 빼고 응답마다 헤더로 보낸다
+    public BoardCache(ResponseSerializer responseSerializer,
+                      @Value("${community.cache.board.maximum-weight}") DataSize maximumWeight,
+                      @Value("${community.cache.board.expire-after-write}") Duration expireAfterWrite) {
+        this.cache = new ResponseCache<>(responseSerializer, BoardResponseDto::getETag, BoardResponseDto::withoutViewCount,
+                maximumWeight, expireAfterWrite);
+    }
+
+    public CachedResponse<BoardResponseDto> getIfPresent(Long id) {
+        return cache.getIfPresent(id);
+    }
+
+    // 캐시에 없으면 loader로 읽어 직렬화해 둔다. 같은 id의 동시 요청은 한 번의 로딩을 공유한다
+    public CachedResponse<BoardResponseDto> get(Long id, Function<Long, BoardResponseDto> loader) {
+        return cache.get(id, loader);
+    }
+
+    public CachedResponse<BoardResponseDto> peek(Long id) {
+        return cache.peek(id);
+    }
+
+    // 조회수 반영 직전에 읽어 둔 항목(snapshot)이 그대로 있으면 조회수만 올린다. 인기 게시글의 캐시를 비우지 않기 위함 (본문 바이트는 그대로다)
+    public void addViewCount(Long id, CachedResponse<BoardResponseDto> snapshot, long views) {
+        cache.replaceOrInvalidate(id, snapshot, board -> board.withViewCount(board.getViewCount() + views));
+    }
+
+    // 커밋 전에 다른 요청이 이전 값을 다시 캐싱할 수 있으므로 커밋 후에 한 번 더 비운다
+    public void evict(Long id) {
+        cache.invalidate(id);
+        TransactionCallbacks.afterCommit(() -> cache.invalidate(id));
+    }
+
+    public void evictByUserId(Long userId) {
+        removeByUserId(userId);
+        TransactionCallbacks.afterCommit(() -> removeByUserId(userId));
+    }
+
+    @EventListener
+    public void onUserUpdated(UserUpdatedEvent event) {
+        evictByUserId(event.getUserId());
+    }
+
+    @Override
+    public CacheStatsDto getStats() {
+        return cache.getStats("boards");
+    }
+
+    private void removeByUserId(Long userId) {
+        cache.invalidateIf(board -> userId.equals(board.getUserId()));
+    }
+}
@@ -2,11 +2,20 @@ package com.example.community.domain.board;
 
 import com.example.community.domain.board.dto.BoardCreateDto;
 import com.example.community.domain.board.dto.BoardResponseDto;
+import com.example.community.domain.board.dto.BoardSummaryDto;
 import com.example.community.domain.board.dto.BoardUpdateDto;
+import com.example.community.global.cache.CachedResponse;
+import com.example.community.global.common.CursorRequest;
+import com.example.community.global.common.CursorResponse;
+import com.example.community.global.common.ETags;
+import com.example.community.global.common.MultiGetResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -15,16 +24,55 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BoardController {
 
+    // 미리 직렬화된 본문과 별개로 요청 시점의 조회수(반영분 + 누적분)를 싣는 헤더
+    static final String VIEW_COUNT_HEADER = "X-View-Count";
+
     private final BoardService boardService;
 
     @GetMapping
-    public ResponseEntity<List<BoardResponseDto>> findAll() {
-        return ResponseEntity.ok(boardService.findAll());
+    public ResponseEntity<CursorResponse<BoardSummaryDto>> findAll(CursorRequest cursor) {
+        return ResponseEntity.ok(boardService.findAll(cursor));
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<BoardResponseDto>> findAllByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(boardService.findAllByIds(ids));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<BoardSummaryDto>> search(@RequestParam String q,
+                                                         @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(boardService.search(q, limit));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(boardService::export);
     }
 
+    // 본문(ETag 대상)에는 조회수가 없고, 현재 조회수는 X-View-Count 헤더로 보낸다 (304 응답 포함)
+    // 조회수가 바뀔 때마다 ETag가 바뀌면 조건부 조회가 거의 적중하지 않으므로 표현에서 분리한다
     @GetMapping("/{id}")
-    public ResponseEntity<BoardResponseDto> findById(@PathVariable Long id) {
-        return ResponseEntity.ok(boardService.findById(id));
+    public ResponseEntity<byte[]> findById(@PathVariable Long id,
+                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                           @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (ifNoneMatch != null) {
+            String etag = boardService.findETag(id);
+            if (ETags.matchesWeak(ifNoneMatch, etag)) {
+                long viewCount = boardService.recordView(id);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(ETags.matchedRepresentation(ifNoneMatch, etag))
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                        .header(VIEW_COUNT_HEADER, String.valueOf(viewCount))
+                        .build();
+            }
+        }
+        CachedResponse<BoardResponseDto> board = boardService.findResponseById(id);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(VIEW_COUNT_HEADER, String.valueOf(boardService.currentViewCount(board.getValue())));
+        return board.toResponseEntity(acceptEncoding, headers);
     }
 
     @PostMapping
@@ -34,8 +82,11 @@ public class BoardController {
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<BoardResponseDto> update(@PathVariable Long id, @RequestBody BoardUpdateDto dto) {
-        return ResponseEntity.ok(boardService.update(id, dto));
+    public ResponseEntity<BoardResponseDto> update(@PathVariable Long id,
+                                                   @RequestBody BoardUpdateDto dto,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        BoardResponseDto updated = boardService.update(id, dto, ifMatch);
+        return ResponseEntity.ok().eTag(updated.getETag()).body(updated);
     }
 
     @DeleteMapping("/{id}")
@@ -1,6 +1,59 @@
 package com.example.community.domain.board;
 
+import jakarta.persistence.QueryHint;
+import com.example.community.domain.board.dto.BoardSummaryDto;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BoardRepository extends JpaRepository<Board, Long> {
+
+    int EXCERPT_LENGTH = 200;
+
+    String SUMMARY_SELECT = "select new com.example.community.domain.board.dto.BoardSummaryDto("
+            + "b.id, b.title, u.id, u.name, b.createdAt, substring(b.content, 1, " + EXCERPT_LENGTH + "), "
+            + "(select count(c) from Comment c where c.board = b)) "
+            + "from Board b join b.user u ";
+
+    // 목록은 TEXT 본문 전체를 읽지 않고 DB에서 잘라낸 앞부분(EXCERPT_LENGTH자)만 가져온다
+    @Query(SUMMARY_SELECT + "where b.id > :after order by b.id")
+    List<BoardSummaryDto> findSummaries(@Param("after") Long after, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where b.id in :ids")
+    List<BoardSummaryDto> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select b from Board b join fetch b.user where b.id = :id")
+    Optional<Board> findWithUserById(@Param("id") Long id);
+
+    @Query("select b from Board b join fetch b.user where b.id in :ids")
+    List<Board> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select b.version as version, b.user.version as userVersion from Board b where b.id = :id")
+    Optional<BoardVersion> findVersionById(@Param("id") Long id);
+
+    @Query("select b.id from Board b where b.id in :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select b.id as id, b.user.id as userId, b.title as title from Board b where b.id in :ids")
+    List<BoardAuthor> findAuthorsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 보관 대상 선정용 (created_at 인덱스)
+    @Query("select b.id from Board b where b.createdAt < :cutoff order by b.createdAt, b.id")
+    List<Long> findIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select b from Board b join fetch b.user order by b.id")
+    Stream<Board> streamAllWithUser();
 }
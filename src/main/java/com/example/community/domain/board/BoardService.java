@@ -1,16 +1,39 @@
 package com.example.community.domain.board;
 
+import com.example.community.domain.archive.ArchivedBoard;
+import com.example.community.domain.archive.BoardArchiveStore;
 import com.example.community.domain.board.dto.BoardCreateDto;
 import com.example.community.domain.board.dto.BoardResponseDto;
+import com.example.community.domain.board.dto.BoardSummaryDto;
 import com.example.community.domain.board.dto.BoardUpdateDto;
 import com.example.community.domain.user.User;
 import com.example.community.domain.user.UserRepository;
+import com.example.community.global.cache.CachedResponse;
+import com.example.community.global.common.CursorRequest;
+import com.example.community.global.common.CursorResponse;
+import com.example.community.global.common.ETags;
+import com.example.community.global.common.MultiGetResponse;
+import com.example.community.global.exception.ConflictException;
+import com.example.community.global.exception.PreconditionFailedException;
+import com.example.community.global.export.NdjsonWriter;
+import com.example.community.global.transaction.TransactionCallbacks;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -19,17 +42,105 @@ public class BoardService {
 
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
+    private final NdjsonWriter ndjsonWriter;
+    private final BoardCache boardCache;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardViewCounter boardViewCounter;
+    private final BoardArchiveStore boardArchiveStore;
 
-    public List<BoardResponseDto> findAll() {
-        return boardRepository.findAll().stream()
-                .map(BoardResponseDto::from)
+    public CursorResponse<BoardSummaryDto> findAll(CursorRequest cursor) {
+        List<BoardSummaryDto> boards = boardRepository.findSummaries(cursor.getAfter(), cursor.toPageable());
+        return CursorResponse.of(boards, cursor.getLimit(), BoardSummaryDto::getId);
+    }
+
+    public List<BoardSummaryDto> search(String query, int limit) {
+        List<Long> ids = boardSearchIndex.search(query, Math.min(Math.max(limit, 1), CursorRequest.MAX_LIMIT));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, BoardSummaryDto> boards = boardRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(BoardSummaryDto::getId, Function.identity()));
+        // 검색 순위 순서를 유지하고, 색인 반영 전에 삭제된 게시글은 건너뛴다
+        return ids.stream()
+                .map(boards::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
+    // 캐시에 있는 게시글은 그대로 쓰고, 나머지만 IN 쿼리 한 번으로 읽는다. 피드 렌더링용이라 조회수는 올리지 않는다
+    public MultiGetResponse<BoardResponseDto> findAllByIds(List<Long> ids) {
+        Set<Long> distinctIds = MultiGetResponse.distinctIds(ids);
+        Map<Long, BoardResponseDto> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : distinctIds) {
+            CachedResponse<BoardResponseDto> cached = boardCache.getIfPresent(id);
+            if (cached == null) {
+                misses.add(id);
+            } else {
+                found.put(id, withPendingViews(cached.getValue()));
+            }
+        }
+        if (!misses.isEmpty()) {
+            boardRepository.findAllWithUserByIdIn(misses)
+                    .forEach(board -> found.put(board.getId(), withPendingViews(BoardResponseDto.from(board))));
+            misses.removeAll(found.keySet());
+        }
+        if (!misses.isEmpty()) {
+            boardArchiveStore.findBoards(misses)
+                    .forEach(board -> found.put(board.getId(), board.toResponseDto()));
+        }
+        return MultiGetResponse.of(distinctIds, found);
+    }
+
+    public void export(OutputStream out) throws IOException {
+        try (Stream<Board> boards = boardRepository.streamAllWithUser()) {
+            ndjsonWriter.write(boards, BoardResponseDto::from, out);
+        }
+    }
+
+    // 동시 요청이 한 번의 조회 결과를 기다리는 동안 커넥션을 잡고 있지 않도록 트랜잭션을 열지 않는다
+    @Transactional(propagation = Propagation.SUPPORTS)
     public BoardResponseDto findById(Long id) {
-        Board board = boardRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Board not found: " + id));
-        return BoardResponseDto.from(board);
+        CachedResponse<BoardResponseDto> board = findCached(id);
+        countView(board.getValue());
+        return withPendingViews(board.getValue());
+    }
+
+    // 미리 직렬화된 본문을 그대로 돌려준다. 누적 중인 조회수를 더한 현재 조회수는 currentViewCount로 따로 구한다
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CachedResponse<BoardResponseDto> findResponseById(Long id) {
+        CachedResponse<BoardResponseDto> board = findCached(id);
+        countView(board.getValue());
+        return board;
+    }
+
+    // If-None-Match 검사용. 캐시에 있으면 쿼리 없이, 없으면 버전 컬럼만 조회한다
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public String findETag(Long id) {
+        CachedResponse<BoardResponseDto> cached = boardCache.getIfPresent(id);
+        if (cached != null) {
+            return cached.getEtag();
+        }
+        return boardRepository.findVersionById(id)
+                .map(version -> ETags.of(version.getVersion(), version.getUserVersion()))
+                // 보관된 게시글은 한 번 읽어 캐시에 올린다
+                .orElseGet(() -> findCached(id).getEtag());
+    }
+
+    // 304 응답도 조회로 집계하고, 응답 헤더에 실을 현재 조회수를 돌려준다
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long recordView(Long id) {
+        CachedResponse<BoardResponseDto> board = findCached(id);
+        countView(board.getValue());
+        return currentViewCount(board.getValue());
+    }
+
+    // DB에 반영된 조회수에 아직 반영되지 않은 누적분을 더한다
+    public long currentViewCount(BoardResponseDto board) {
+        if (board.isArchived()) {
+            return board.getViewCount();
+        }
+        return board.getViewCount() + boardViewCounter.getPending(board.getId());
     }
 
     @Transactional
@@ -44,22 +155,77 @@ public class BoardService {
                 .build();
 
         Board saved = boardRepository.save(board);
+        TransactionCallbacks.afterCommit(() -> boardSearchIndex.index(saved.getId(), saved.getTitle(), saved.getContent()));
         return BoardResponseDto.from(saved);
     }
 
     @Transactional
-    public BoardResponseDto update(Long id, BoardUpdateDto dto) {
-        Board board = boardRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Board not found: " + id));
+    public BoardResponseDto update(Long id, BoardUpdateDto dto, String ifMatch) {
+        Board board = boardRepository.findWithUserById(id)
+                .orElseThrow(() -> notFoundOrArchived(id));
+        if (ifMatch != null && !ETags.matchesStrong(ifMatch, BoardResponseDto.from(board).getETag())) {
+            throw new PreconditionFailedException("Board has been modified: " + id);
+        }
         board.update(dto.getTitle(), dto.getContent());
-        return BoardResponseDto.from(board);
+        // 응답에 새 버전을 담기 위해 여기서 반영한다. 검사 이후 다른 요청이 먼저 수정했다면 @Version 검사에 걸린다
+        try {
+            boardRepository.flush();
+        } catch (OptimisticLockingFailureException e) {
+            if (ifMatch == null) {
+                throw e;
+            }
+            throw new PreconditionFailedException("Board has been modified: " + id);
+        }
+        boardCache.evict(id);
+        TransactionCallbacks.afterCommit(() -> boardSearchIndex.index(id, dto.getTitle(), dto.getContent()));
+        return withPendingViews(BoardResponseDto.from(board));
     }
 
     @Transactional
     public void delete(Long id) {
         if (!boardRepository.existsById(id)) {
-            throw new IllegalArgumentException("Board not found: " + id);
+            if (!boardArchiveStore.exists(id)) {
+                throw new IllegalArgumentException("Board not found: " + id);
+            }
+            boardArchiveStore.delete(id);
+            boardCache.evict(id);
+            return;
         }
         boardRepository.deleteById(id);
+        boardCache.evict(id);
+        TransactionCallbacks.afterCommit(() -> {
+            boardSearchIndex.remove(id);
+            boardViewCounter.discard(id);
+        });
+    }
+
+    // 보관된 게시글은 운영 테이블에 행이 없어 반영할 곳이 없으므로 세지 않는다
+    private void countView(BoardResponseDto board) {
+        if (!board.isArchived()) {
+            boardViewCounter.increment(board.getId());
+        }
+    }
+
+    private BoardResponseDto withPendingViews(BoardResponseDto board) {
+        return board.withViewCount(currentViewCount(board));
+    }
+
+    private CachedResponse<BoardResponseDto> findCached(Long id) {
+        return boardCache.get(id, this::load);
+    }
+
+    // 운영 테이블에 없으면 보관소에서 찾는다 (느린 경로, 결과는 캐시된다)
+    private BoardResponseDto load(Long id) {
+        return boardRepository.findWithUserById(id)
+                .map(BoardResponseDto::from)
+                .or(() -> boardArchiveStore.findBoard(id).map(ArchivedBoard::toResponseDto))
+                .orElseThrow(() -> new IllegalArgumentException("Board not found: " + id));
+    }
+
+    private RuntimeException notFoundOrArchived(Long id) {
+        if (boardArchiveStore.exists(id)) {
+            return new ConflictException("Archived board is read-only: " + id);
+        }
+        return new IllegalArgumentException("Board not found: " + id);
     }
 }
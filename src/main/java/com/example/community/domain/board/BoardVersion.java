@@ -0,0 +1,11 @@
+package com.example.community.domain.board;
+
+/**
+ * ETag 계산용 프로젝션 (게시글 본문을 읽지 않는다)
+ */
+public interface BoardVersion {
+
+    Long getVersion();
+
+    Long getUserVersion();
+}
@@ -0,0 +1,111 @@
+package com.example.community.domain.board;
+
+import com.example.community.domain.board.dto.BoardResponseDto;
+import com.example.community.global.cache.CachedResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 누적기
+ * 조회할 때마다 UPDATE를 실행하는 대신 게시글별 LongAdder에 모아 두었다가 주기적으로 한 번의 배치 UPDATE로 반영한다.
+ * 비정상 종료 시 마지막 반영 이후의 조회수(최대 flush 주기만큼)는 유실될 수 있다.
+ * 조회 응답에는 반영된 값에 누적 중인 값(getPending)을 더해 보여주므로, 반영 주기와 관계없이 조회수가 바로 보인다.
+ * 한 주기 동안 조회가 없던 게시글의 항목은 flush 때 지우므로, 삭제된 게시글이나 한 번 읽힌 게시글이 계속 쌓이지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE boards SET view_count = view_count + ? WHERE id = ?";
+
+    private final ConcurrentMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final BoardCache boardCache;
+
+    public void increment(Long id) {
+        add(id, 1);
+    }
+
+    public long getPending(Long id) {
+        LongAdder counter = pending.get(id);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    public void discard(Long id) {
+        pending.remove(id);
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${community.board.view-count.flush-interval-ms}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        // UPDATE 이전의 캐시 항목. 반영 후 이 항목이 그대로 남아 있을 때만 조회수를 더한다
+        Map<Long, CachedResponse<BoardResponseDto>> snapshots = new HashMap<>();
+        pending.forEach((id, counter) -> {
+            long views = counter.sumThenReset();
+            if (views > 0) {
+                batch.add(new Object[]{views, id});
+                snapshots.put(id, boardCache.peek(id));
+            } else {
+                retire(id, counter);
+            }
+        });
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (DataAccessException e) {
+            // 반영에 실패한 조회수는 다음 주기에 다시 시도한다
+            batch.forEach(row -> add((Long) row[1], (Long) row[0]));
+            log.warn("Failed to flush view counts for {} boards", batch.size(), e);
+            return;
+        }
+        batch.forEach(row -> boardCache.addViewCount((Long) row[1], snapshots.get((Long) row[1]), (Long) row[0]));
+    }
+
+    // 지운 카운터에 그 사이 더해진 조회수는 새 항목으로 옮긴다
+    private void retire(Long id, LongAdder counter) {
+        if (pending.remove(id, counter)) {
+            long late = counter.sumThenReset();
+            if (late > 0) {
+                add(id, late);
+            }
+        }
+    }
+
+    private void add(Long id, long views) {
+        LongAdder counter = pending.get(id);
+        if (counter == null) {
+            counter = pending.computeIfAbsent(id, key -> new LongAdder());
+        }
+        counter.add(views);
+        // flush가 이 카운터를 방금 지웠다면 더한 값이 버려지지 않도록 새 항목으로 옮긴다
+        if (pending.get(id) != counter) {
+            long orphaned = counter.sumThenReset();
+            if (orphaned > 0) {
+                add(id, orphaned);
+            }
+        }
+    }
+
+    // 테스트용: 추적 중인 게시글 수
+    int size() {
+        return pending.size();
+    }
+}
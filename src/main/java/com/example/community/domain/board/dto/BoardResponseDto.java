@@ -1,6 +1,9 @@
 package com.example.community.domain.board.dto;
 
 import com.example.community.domain.board.Board;
+import com.example.community.global.common.ETags;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -16,6 +19,17 @@ public class BoardResponseDto {
     private Long userId;
     private String userName;
     private LocalDateTime createdAt;
+    // 조회 API는 DB에 반영된 값에 아직 반영되지 않은 누적분을 더해 돌려준다 (BoardService.currentViewCount)
+    // 미리 직렬화하는 단건 본문에서는 null로 비워 필드째 뺀다 (withoutViewCount)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long viewCount;
+    private Long version;
+    // 작성자 이름이 응답에 포함되므로 작성자 버전도 ETag에 반영한다
+    @JsonIgnore
+    private Long userVersion;
+    // 보관소에서 읽은 게시글. 조회수가 더 이상 늘지 않는다
+    @JsonIgnore
+    private boolean archived;
 
     public static BoardResponseDto from(Board board) {
         return new BoardResponseDto(
@@ -24,7 +38,25 @@ public class BoardResponseDto {
                 board.getContent(),
                 board.getUser().getId(),
                 board.getUser().getName(),
-                board.getCreatedAt()
+                board.getCreatedAt(),
+                board.getViewCount(),
+                board.getVersion(),
+                board.getUser().getVersion(),
+                false
         );
     }
+
+    public BoardResponseDto withViewCount(long viewCount) {
+        return new BoardResponseDto(id, title, content, userId, userName, createdAt, viewCount, version, userVersion, archived);
+    }
+
+    public BoardResponseDto withoutViewCount() {
+        return new BoardResponseDto(id, title, content, userId, userName, createdAt, null, version, userVersion, archived);
+    }
+
+    // 조회수는 별도 주기로 반영되므로 ETag에 포함하지 않는다
+    @JsonIgnore
+    public String getETag() {
+        return ETags.of(version, userVersion);
+    }
 }
@@ -0,0 +1,23 @@
+package com.example.community.domain.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 요약
+ * 본문 전체 대신 앞부분 발췌와 댓글 수만 담는다. 전체 본문은 GET /boards/{id}로 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class BoardSummaryDto {
+
+    private Long id;
+    private String title;
+    private Long userId;
+    private String userName;
+    private LocalDateTime createdAt;
+    private String excerpt;
+    private Long commentCount;
+}
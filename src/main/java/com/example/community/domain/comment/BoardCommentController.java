@@ -0,0 +1,33 @@
+package com.example.community.domain.comment;
+
+import com.example.community.domain.comment.dto.CommentResponseDto;
+import com.example.community.global.common.CursorRequest;
+import com.example.community.global.common.CursorResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/boards/{boardId}/comments")
+@RequiredArgsConstructor
+public class BoardCommentController {
+
+    private final CommentService commentService;
+
+    @GetMapping
+    public ResponseEntity<CursorResponse<CommentResponseDto>> findAll(@PathVariable Long boardId, CursorRequest cursor) {
+        return ResponseEntity.ok(commentService.findAllByBoardId(boardId, cursor));
+    }
+
+    @GetMapping("/roots")
+    public ResponseEntity<CursorResponse<CommentResponseDto>> findRoots(@PathVariable Long boardId, CursorRequest cursor) {
+        return ResponseEntity.ok(commentService.findRootsByBoardId(boardId, cursor));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable Long boardId) {
+        return commentService.subscribe(boardId);
+    }
+}
@@ -11,13 +11,21 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_board_id_id", columnList = "board_id, id"),
+        @Index(name = "idx_comments_board_id_path", columnList = "board_id, path"),
+        @Index(name = "idx_comments_parent_id_id", columnList = "parent_id, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment {
 
+    private static final String PATH_SEPARATOR = "/";
+
+    // IDENTITY 전략은 INSERT마다 키를 받아와야 해서 JDBC 배치가 꺼진다. 시퀀스를 50개씩 미리 할당받아 배치 INSERT를 가능하게 한다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq_generator")
+    @SequenceGenerator(name = "comment_seq_generator", sequenceName = "comments_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -31,17 +39,54 @@ public class Comment {
     @JoinColumn(name = "board_id", nullable = false)
     private Board board;
 
+    // 최상위 댓글은 null
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    // 루트부터 자신까지의 id를 12자리로 채워 이어 붙인 경로. 경로 순으로 정렬하면 스레드 표시 순서(깊이 우선)가 된다
+    // 자신의 id가 들어가므로 시퀀스로 id를 받은 뒤 INSERT 직전에 채운다 (INSERT 후 UPDATE가 생기지 않는다)
+    @CommentPath
+    private String path;
+
+    // 경로 생성용. 같은 플러시에서 저장되는 부모도 INSERT가 먼저 실행되므로 경로가 채워져 있다
+    @Transient
+    private Comment parent;
+
+    @Column(nullable = false)
+    private int depth;
+
+    @Version
+    private Long version;
+
     private LocalDateTime createdAt;
 
     @Builder
-    public Comment(String content, User user, Board board) {
+    public Comment(String content, User user, Board board, Comment parent) {
         this.content = content;
         this.user = user;
         this.board = board;
+        this.parent = parent;
+        this.parentId = parent == null ? null : parent.getId();
+        this.depth = parent == null ? 0 : parent.getDepth() + 1;
         this.createdAt = LocalDateTime.now();
     }
 
     public void update(String content) {
         this.content = content;
     }
+
+    String buildPath() {
+        String parentPath = parent == null ? null : parent.getPath();
+        return (parentPath == null ? "" : parentPath) + String.format("%012d", id) + PATH_SEPARATOR;
+    }
+
+    // 하위 트리 범위 [path, subtreeEnd(path)): '/' 바로 다음 문자가 '0'이므로 path로 시작하는 경로는 모두 이 값보다 작다
+    public static String subtreeEnd(String path) {
+        return path.substring(0, path.length() - 1) + "0";
+    }
+
+    // 자신을 포함하도록 path보다 바로 앞에 오는 값 (경로에는 숫자와 '/'만 쓰인다)
+    public static String subtreeStart(String path) {
+        return path.substring(0, path.length() - 1);
+    }
 }
@@ -2,10 +2,14 @@ package com.example.community.domain.comment;
 
 import com.example.community.domain.comment.dto.CommentCreateDto;
 import com.example.community.domain.comment.dto.CommentResponseDto;
+import com.example.community.global.common.CursorRequest;
+import com.example.community.global.common.CursorResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -17,8 +21,15 @@ public class CommentController {
     private final CommentService commentService;
 
     @GetMapping
-    public ResponseEntity<List<CommentResponseDto>> findAll() {
-        return ResponseEntity.ok(commentService.findAll());
+    public ResponseEntity<CursorResponse<CommentResponseDto>> findAll(CursorRequest cursor) {
+        return ResponseEntity.ok(commentService.findAll(cursor));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(commentService::export);
     }
 
     @GetMapping("/{id}")
@@ -26,12 +37,30 @@ public class CommentController {
         return ResponseEntity.ok(commentService.findById(id));
     }
 
+    @GetMapping("/{id}/replies")
+    public ResponseEntity<CursorResponse<CommentResponseDto>> findReplies(@PathVariable Long id, CursorRequest cursor) {
+        return ResponseEntity.ok(commentService.findReplies(id, cursor));
+    }
+
+    @GetMapping("/{id}/thread")
+    public ResponseEntity<CursorResponse<CommentResponseDto>> findThread(@PathVariable Long id,
+                                                                         @RequestParam(required = false) Integer depth,
+                                                                         CursorRequest cursor) {
+        return ResponseEntity.ok(commentService.findThread(id, depth, cursor));
+    }
+
     @PostMapping
     public ResponseEntity<CommentResponseDto> create(@RequestBody CommentCreateDto dto) {
         CommentResponseDto created = commentService.create(dto);
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<CommentResponseDto>> createAll(@RequestBody List<CommentCreateDto> dtos) {
+        List<CommentResponseDto> created = commentService.createAll(dtos);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         commentService.delete(id);
@@ -0,0 +1,34 @@
+package com.example.community.domain.comment;
+
+import com.example.community.domain.comment.dto.CommentCreateDto;
+import com.example.community.domain.comment.dto.CommentIngestStatusDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/comments/async")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "community.comment.ingest.enabled", havingValue = "true")
+public class CommentIngestController {
+
+    private final CommentIngestQueue commentIngestQueue;
+
+    @PostMapping
+    public ResponseEntity<CommentIngestStatusDto> submit(@RequestBody CommentCreateDto dto) {
+        CommentIngestStatusDto accepted = commentIngestQueue.submit(dto);
+        return ResponseEntity.accepted()
+                .location(URI.create("/comments/async/" + accepted.getProvisionalId()))
+                .body(accepted);
+    }
+
+    @GetMapping("/{provisionalId}")
+    public ResponseEntity<CommentIngestStatusDto> getStatus(@PathVariable UUID provisionalId) {
+        return ResponseEntity.ok(commentIngestQueue.getStatus(provisionalId)
+                .orElseThrow(() -> new IllegalArgumentException("Ingest request not found: " + provisionalId)));
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.community.domain.comment;
+
+import com.example.community.domain.comment.dto.CommentCreateDto;
+import com.example.community.domain.comment.dto.CommentIngestStatusDto;
+import com.example.community.domain.comment.dto.CommentResponseDto;
+import com.example.community.global.exception.ServiceUnavailableException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 비동기 수집 큐 (write-behind)
+ * 요청은 크기가 제한된 큐에 넣고 임시 id로 바로 응답한다. 기록 스레드 하나가 쌓인 요청을 모아 한 트랜잭션으로 커밋한다.
+ * 큐가 가득 차면 503으로 거절하고, 종료할 때는 남은 요청을 모두 기록한 뒤 내려간다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "community.comment.ingest.enabled", havingValue = "true")
+public class CommentIngestQueue {
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final CommentService commentService;
+    private final BlockingQueue<PendingComment> queue;
+    private final int batchSize;
+    private final Cache<UUID, CommentIngestStatusDto> results;
+    private final Thread writer = new Thread(this::run, "comment-ingest-writer");
+    // 접수(읽기 락)와 접수 마감(쓰기 락)을 나눠, 종료 처리가 시작된 뒤에는 어떤 요청도 큐에 들어가지 못하게 한다
+    private final ReadWriteLock intakeLock = new ReentrantReadWriteLock();
+    private volatile boolean running = true;
+
+    public CommentIngestQueue(CommentService commentService,
+                              @Value("${community.comment.ingest.capacity}") int capacity,
+                              @Value("${community.comment.ingest.batch-size}") int batchSize,
+                              @Value("${community.comment.ingest.result-ttl}") Duration resultTtl,
+                              @Value("${community.comment.ingest.result-max-size}") long resultMaxSize) {
+        this.commentService = commentService;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.results = Caffeine.newBuilder()
+                .maximumSize(resultMaxSize)
+                .expireAfterWrite(resultTtl)
+                .build();
+    }
+
+    @PostConstruct
+    void start() {
+        writer.start();
+    }
+
+    public CommentIngestStatusDto submit(CommentCreateDto dto) {
+        // 큐에 넣은 뒤에 실패하면 결과 조회로만 알 수 있으므로 잘못된 참조는 접수 단계에서 바로 거절한다
+        commentService.validateForIngest(dto);
+        intakeLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new ServiceUnavailableException("Comment ingest is shutting down");
+            }
+            PendingComment pending = new PendingComment(UUID.randomUUID(), dto);
+            CommentIngestStatusDto accepted = CommentIngestStatusDto.pending(pending.id);
+            results.put(pending.id, accepted);
+            if (!queue.offer(pending)) {
+                results.invalidate(pending.id);
+                throw new ServiceUnavailableException("Comment ingest queue is full");
+            }
+            return accepted;
+        } finally {
+            intakeLock.readLock().unlock();
+        }
+    }
+
+    public Optional<CommentIngestStatusDto> getStatus(UUID provisionalId) {
+        return Optional.ofNullable(results.getIfPresent(provisionalId));
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    // 접수를 먼저 마감한 뒤 기록 스레드를 기다리므로, 마감 전에 받은 요청은 모두 기록되고 이후 요청은 503으로 거절된다
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        intakeLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            intakeLock.writeLock().unlock();
+        }
+        if (writer.isAlive()) {
+            writer.join();
+        }
+        flush();
+    }
+
+    // 큐가 빌 때까지 호출한 스레드에서 바로 기록한다
+    void flush() {
+        List<PendingComment> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void run() {
+        List<PendingComment> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingComment first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                // 기다리는 동안 쌓인 요청을 한 번에 가져가 한 트랜잭션으로 커밋한다
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Comment ingest writer failed on a batch of {}", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingComment> batch) {
+        List<CommentCreateDto> dtos = batch.stream().map(pending -> pending.dto).collect(Collectors.toList());
+        List<CommentResponseDto> created;
+        try {
+            created = commentService.createAll(dtos);
+        } catch (RuntimeException e) {
+            // 하나라도 잘못된 요청이 있으면 배치 전체가 롤백되므로, 건별로 다시 기록해 실패한 요청만 골라낸다
+            log.warn("Group commit of {} comments failed, retrying one by one: {}", batch.size(), e.getMessage());
+            batch.forEach(this::writeOne);
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            UUID provisionalId = batch.get(i).id;
+            results.put(provisionalId, CommentIngestStatusDto.created(provisionalId, created.get(i).getId()));
+        }
+    }
+
+    private void writeOne(PendingComment pending) {
+        try {
+            CommentResponseDto created = commentService.create(pending.dto);
+            results.put(pending.id, CommentIngestStatusDto.created(pending.id, created.getId()));
+        } catch (RuntimeException e) {
+            results.put(pending.id, CommentIngestStatusDto.failed(pending.id, e.getMessage()));
+        }
+    }
+
+    private static final class PendingComment {
+
+        private final UUID id;
+        private final CommentCreateDto dto;
+
+        private PendingComment(UUID id, CommentCreateDto dto) {
+            this.id = id;
+            this.dto = dto;
+        }
+    }
+}
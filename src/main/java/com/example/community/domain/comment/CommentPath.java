@@ -0,0 +1,18 @@
+package com.example.community.domain.comment;
+
+import org.hibernate.annotations.ValueGenerationType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 댓글 경로를 INSERT 시점에 채운다.
+ * id가 할당된 뒤에 값을 만들고 INSERT 값에 그대로 들어가므로, 저장 후 경로를 다시 UPDATE하지 않는다.
+ */
+@ValueGenerationType(generatedBy = CommentPathGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface CommentPath {
+}
@@ -1,6 +1,57 @@
 package com.example.community.domain.comment;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    @Query("select c from Comment c join fetch c.user where c.id > :after order by c.id")
+    List<Comment> findAllWithUser(@Param("after") Long after, Pageable pageable);
+
+    @Query("select c from Comment c join fetch c.user where c.id = :id")
+    Optional<Comment> findWithUserById(@Param("id") Long id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select c from Comment c join fetch c.user order by c.id")
+    Stream<Comment> streamAllWithUser();
+
+    @Query("select c from Comment c join fetch c.user where c.board.id = :boardId and c.id > :after order by c.id")
+    List<Comment> findAllWithUserByBoardId(@Param("boardId") Long boardId, @Param("after") Long after, Pageable pageable);
+
+    @Query("select c from Comment c join fetch c.user where c.board.id in :boardIds order by c.id")
+    List<Comment> findAllWithUserByBoardIdIn(@Param("boardIds") Collection<Long> boardIds);
+
+    @Query("select c from Comment c join fetch c.user where c.board.id = :boardId and c.parentId is null and c.id > :after order by c.id")
+    List<Comment> findRootsWithUserByBoardId(@Param("boardId") Long boardId, @Param("after") Long after, Pageable pageable);
+
+    @Query("select c from Comment c join fetch c.user where c.parentId = :parentId and c.id > :after order by c.id")
+    List<Comment> findRepliesWithUser(@Param("parentId") Long parentId, @Param("after") Long after, Pageable pageable);
+
+    // (board_id, path) 인덱스 범위 스캔 한 번으로 하위 트리를 표시 순서대로 읽는다
+    @Query("select c from Comment c join fetch c.user "
+            + "where c.board.id = :boardId and c.path > :after and c.path < :end and c.depth <= :maxDepth "
+            + "order by c.path")
+    List<Comment> findSubtreeWithUser(@Param("boardId") Long boardId, @Param("after") String after,
+                                      @Param("end") String end, @Param("maxDepth") int maxDepth, Pageable pageable);
+
+    @Query("select c.path from Comment c where c.id = :id")
+    Optional<String> findPathById(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from Comment c where c.board.id = :boardId and c.path >= :start and c.path < :end")
+    int deleteSubtree(@Param("boardId") Long boardId, @Param("start") String start, @Param("end") String end);
 }
@@ -1,61 +1,346 @@
 package com.example.community.domain.comment;
 
+import com.example.community.domain.archive.ArchivedBoard;
+import com.example.community.domain.archive.ArchivedComment;
+import com.example.community.domain.archive.BoardArchiveStore;
 import com.example.community.domain.board.Board;
 import com.example.community.domain.board.BoardRepository;
 import com.example.community.domain.comment.dto.CommentCreateDto;
 import com.example.community.domain.comment.dto.CommentResponseDto;
+import com.example.community.domain.notification.NotificationOutbox;
+import com.example.community.domain.notification.NotificationOutboxRepository;
 import com.example.community.domain.user.User;
 import com.example.community.domain.user.UserRepository;
+import com.example.community.global.cache.SingleFlight;
+import com.example.community.global.common.CursorRequest;
+import com.example.community.global.common.CursorResponse;
+import com.example.community.global.exception.InvalidRequestException;
+import com.example.community.global.export.NdjsonWriter;
+import com.example.community.global.transaction.TransactionCallbacks;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
 
+    // hibernate.jdbc.batch_size와 같은 값으로 맞춘다
+    private static final int BATCH_SIZE = 50;
+
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final BoardRepository boardRepository;
+    private final NdjsonWriter ndjsonWriter;
+    private final EntityManager entityManager;
+    private final CommentStreamHub commentStreamHub;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final BoardArchiveStore boardArchiveStore;
+    private final SingleFlight<Long, CommentResponseDto> singleFlight = new SingleFlight<>();
+
+    // 답글 깊이 상한 (최상위 댓글이 0)
+    @Value("${community.comment.max-depth}")
+    private int maxDepth;
+
+    public CursorResponse<CommentResponseDto> findAll(CursorRequest cursor) {
+        List<CommentResponseDto> comments = commentRepository.findAllWithUser(cursor.getAfter(), cursor.toPageable()).stream()
+                .map(CommentResponseDto::from)
+                .collect(Collectors.toList());
+        return CursorResponse.of(comments, cursor.getLimit(), CommentResponseDto::getId);
+    }
+
+    public CursorResponse<CommentResponseDto> findAllByBoardId(Long boardId, CursorRequest cursor) {
+        if (!boardRepository.existsById(boardId)) {
+            return pageArchived(findArchivedBoard(boardId), comment -> true, cursor);
+        }
+        List<CommentResponseDto> comments = commentRepository.findAllWithUserByBoardId(boardId, cursor.getAfter(), cursor.toPageable()).stream()
+                .map(CommentResponseDto::from)
+                .collect(Collectors.toList());
+        return CursorResponse.of(comments, cursor.getLimit(), CommentResponseDto::getId);
+    }
+
+    public CursorResponse<CommentResponseDto> findRootsByBoardId(Long boardId, CursorRequest cursor) {
+        if (!boardRepository.existsById(boardId)) {
+            return pageArchived(findArchivedBoard(boardId), comment -> comment.getParentId() == null, cursor);
+        }
+        List<CommentResponseDto> comments = commentRepository.findRootsWithUserByBoardId(boardId, cursor.getAfter(), cursor.toPageable()).stream()
+                .map(CommentResponseDto::from)
+                .collect(Collectors.toList());
+        return CursorResponse.of(comments, cursor.getLimit(), CommentResponseDto::getId);
+    }
+
+    public CursorResponse<CommentResponseDto> findReplies(Long id, CursorRequest cursor) {
+        if (!commentRepository.existsById(id)) {
+            return pageArchived(findArchivedBoardByCommentId(id), comment -> id.equals(comment.getParentId()), cursor);
+        }
+        List<CommentResponseDto> replies = commentRepository.findRepliesWithUser(id, cursor.getAfter(), cursor.toPageable()).stream()
+                .map(CommentResponseDto::from)
+                .collect(Collectors.toList());
+        return CursorResponse.of(replies, cursor.getLimit(), CommentResponseDto::getId);
+    }
+
+    /**
+     * 댓글과 그 하위 답글 전체를 표시 순서(깊이 우선)로 조회한다.
+     * depth는 기준 댓글로부터의 상대 깊이이고, cursor.after는 이전 페이지 마지막 댓글의 id다.
+     */
+    public CursorResponse<CommentResponseDto> findThread(Long id, Integer depth, CursorRequest cursor) {
+        int relativeDepth = depth == null ? maxDepth : Math.min(depth, maxDepth);
+        if (relativeDepth < 0) {
+            throw new InvalidRequestException("depth must not be negative: " + depth);
+        }
+        Optional<Comment> found = commentRepository.findWithUserById(id);
+        if (found.isEmpty()) {
+            return findArchivedThread(id, relativeDepth, cursor);
+        }
+        Comment root = found.get();
+        if (root.getPath() == null) {
+            return CursorResponse.of(List.of(CommentResponseDto.from(root)), cursor.getLimit(), CommentResponseDto::getId);
+        }
 
-    public List<CommentResponseDto> findAll() {
-        return commentRepository.findAll().stream()
+        String after = Comment.subtreeStart(root.getPath());
+        if (cursor.getAfter() > 0) {
+            after = commentRepository.findPathById(cursor.getAfter())
+                    .filter(path -> path.startsWith(root.getPath()))
+                    .orElseThrow(() -> new InvalidRequestException("Cursor is not in thread " + id + ": " + cursor.getAfter()));
+        }
+
+        List<CommentResponseDto> comments = commentRepository.findSubtreeWithUser(
+                        root.getBoard().getId(), after, Comment.subtreeEnd(root.getPath()),
+                        root.getDepth() + relativeDepth, cursor.toPageable()).stream()
                 .map(CommentResponseDto::from)
                 .collect(Collectors.toList());
+        return CursorResponse.of(comments, cursor.getLimit(), CommentResponseDto::getId);
     }
 
+    public SseEmitter subscribe(Long boardId) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new IllegalArgumentException("Board not found: " + boardId);
+        }
+        return commentStreamHub.subscribe(boardId);
+    }
+
+    public void export(OutputStream out) throws IOException {
+        try (Stream<Comment> comments = commentRepository.streamAllWithUser()) {
+            ndjsonWriter.write(comments, CommentResponseDto::from, out);
+        }
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
     public CommentResponseDto findById(Long id) {
-        Comment comment = commentRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Comment not found: " + id));
-        return CommentResponseDto.from(comment);
+        return singleFlight.execute(id, () -> commentRepository.findWithUserById(id)
+                .map(CommentResponseDto::from)
+                .or(() -> boardArchiveStore.findBoardByCommentId(id)
+                        .flatMap(board -> board.findComment(id).map(comment -> comment.toResponseDto(board.getId()))))
+                .orElseThrow(() -> new IllegalArgumentException("Comment not found: " + id)));
     }
 
     @Transactional
     public CommentResponseDto create(CommentCreateDto dto) {
+        validateReferences(dto);
         User user = userRepository.findById(dto.getUserId())
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + dto.getUserId()));
         Board board = boardRepository.findById(dto.getBoardId())
                 .orElseThrow(() -> new IllegalArgumentException("Board not found: " + dto.getBoardId()));
+        Comment parent = null;
+        if (dto.getParentId() != null) {
+            parent = commentRepository.findById(dto.getParentId())
+                    .orElseThrow(() -> new IllegalArgumentException("Comment not found: " + dto.getParentId()));
+            validateParent(parent, dto.getBoardId());
+        }
 
         Comment comment = Comment.builder()
                 .content(dto.getContent())
                 .user(user)
                 .board(board)
+                .parent(parent)
                 .build();
 
+        // 경로는 INSERT 시점에 채워진다 (CommentPath)
         Comment saved = commentRepository.save(comment);
-        return CommentResponseDto.from(saved);
+        notificationOutboxRepository.save(NotificationOutbox.from(saved));
+        CommentResponseDto response = CommentResponseDto.from(saved);
+        TransactionCallbacks.afterCommit(() -> commentStreamHub.publish(response));
+        return response;
+    }
+
+    // 비동기 수집은 기록 시점에야 실패를 알 수 있으므로, 접수 전에 PK 존재 확인만으로 명백히 잘못된 요청을 400으로 거절한다
+    @Transactional(readOnly = true)
+    public void validateForIngest(CommentCreateDto dto) {
+        validateReferences(dto);
+        if (!userRepository.existsById(dto.getUserId())) {
+            throw new InvalidRequestException("User not found: " + dto.getUserId());
+        }
+        if (!boardRepository.existsById(dto.getBoardId())) {
+            throw new InvalidRequestException("Board not found: " + dto.getBoardId());
+        }
+        if (dto.getParentId() != null && !commentRepository.existsById(dto.getParentId())) {
+            throw new InvalidRequestException("Comment not found: " + dto.getParentId());
+        }
     }
 
+    @Transactional
+    public List<CommentResponseDto> createAll(List<CommentCreateDto> dtos) {
+        long startedAt = System.nanoTime();
+        // findAllById는 null id에서 예외를 던져 404처럼 보이므로 먼저 400으로 거절한다
+        dtos.forEach(CommentService::validateReferences);
+
+        Set<Long> userIds = dtos.stream().map(CommentCreateDto::getUserId).collect(Collectors.toSet());
+        Set<Long> boardIds = dtos.stream().map(CommentCreateDto::getBoardId).collect(Collectors.toSet());
+
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Set<Long> missingUserIds = new HashSet<>(userIds);
+        missingUserIds.removeAll(users.keySet());
+        if (!missingUserIds.isEmpty()) {
+            throw new IllegalArgumentException("User not found: " + missingUserIds);
+        }
+
+        // 게시글은 FK 참조만 필요하므로 TEXT 본문까지 읽지 않고 존재 여부만 확인한다
+        Set<Long> missingBoardIds = new HashSet<>(boardIds);
+        missingBoardIds.removeAll(boardRepository.findIdsByIdIn(boardIds));
+        if (!missingBoardIds.isEmpty()) {
+            throw new IllegalArgumentException("Board not found: " + missingBoardIds);
+        }
+
+        // 답글 대상은 이미 저장된 댓글이어야 한다 (같은 요청 안의 댓글에는 답글을 달 수 없다)
+        Set<Long> parentIds = dtos.stream().map(CommentCreateDto::getParentId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<Long, Comment> parents = commentRepository.findAllById(parentIds).stream()
+                .collect(Collectors.toMap(Comment::getId, Function.identity()));
+        Set<Long> missingParentIds = new HashSet<>(parentIds);
+        missingParentIds.removeAll(parents.keySet());
+        if (!missingParentIds.isEmpty()) {
+            throw new IllegalArgumentException("Comment not found: " + missingParentIds);
+        }
+        dtos.stream()
+                .filter(dto -> dto.getParentId() != null)
+                .forEach(dto -> validateParent(parents.get(dto.getParentId()), dto.getBoardId()));
+
+        List<CommentResponseDto> created = new ArrayList<>(dtos.size());
+        for (int from = 0; from < dtos.size(); from += BATCH_SIZE) {
+            List<CommentCreateDto> chunk = dtos.subList(from, Math.min(from + BATCH_SIZE, dtos.size()));
+            List<Comment> batch = chunk.stream()
+                    .map(dto -> Comment.builder()
+                            .content(dto.getContent())
+                            .user(users.get(dto.getUserId()))
+                            .board(boardRepository.getReferenceById(dto.getBoardId()))
+                            .parent(dto.getParentId() == null ? null : parents.get(dto.getParentId()))
+                            .build())
+                    .collect(Collectors.toList());
+
+            commentRepository.saveAll(batch);
+            notificationOutboxRepository.saveAll(batch.stream().map(NotificationOutbox::from).collect(Collectors.toList()));
+            commentRepository.flush();
+            batch.forEach(comment -> created.add(CommentResponseDto.from(comment)));
+            entityManager.clear();
+        }
+
+        TransactionCallbacks.afterCommit(() -> created.forEach(commentStreamHub::publish));
+
+        long elapsedNanos = Math.max(System.nanoTime() - startedAt, 1);
+        log.debug("Bulk inserted {} comments in {} ms ({} rows/sec)",
+                created.size(), elapsedNanos / 1_000_000, created.size() * 1_000_000_000L / elapsedNanos);
+        return created;
+    }
+
+    // 댓글을 지우면 하위 답글도 경로 범위로 한 번에 지운다
     @Transactional
     public void delete(Long id) {
-        if (!commentRepository.existsById(id)) {
-            throw new IllegalArgumentException("Comment not found: " + id);
+        Comment comment = commentRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Comment not found: " + id));
+        if (comment.getPath() == null) {
+            commentRepository.delete(comment);
+            return;
+        }
+        commentRepository.deleteSubtree(comment.getBoard().getId(),
+                Comment.subtreeStart(comment.getPath()), Comment.subtreeEnd(comment.getPath()));
+    }
+
+    // 보관된 게시글의 댓글은 보관 행 하나를 풀어 메모리에서 같은 커서 규칙으로 자른다 (느린 경로)
+    private CursorResponse<CommentResponseDto> pageArchived(ArchivedBoard board, Predicate<ArchivedComment> filter, CursorRequest cursor) {
+        List<CommentResponseDto> comments = board.getComments().stream()
+                .filter(comment -> comment.getId() > cursor.getAfter())
+                .filter(filter)
+                .limit(cursor.getLimit() + 1L)
+                .map(comment -> comment.toResponseDto(board.getId()))
+                .collect(Collectors.toList());
+        return CursorResponse.of(comments, cursor.getLimit(), CommentResponseDto::getId);
+    }
+
+    private CursorResponse<CommentResponseDto> findArchivedThread(Long id, int relativeDepth, CursorRequest cursor) {
+        ArchivedBoard board = findArchivedBoardByCommentId(id);
+        ArchivedComment root = board.findComment(id)
+                .orElseThrow(() -> new IllegalArgumentException("Comment not found: " + id));
+        if (root.getPath() == null) {
+            return CursorResponse.of(List.of(root.toResponseDto(board.getId())), cursor.getLimit(), CommentResponseDto::getId);
+        }
+
+        String after = Comment.subtreeStart(root.getPath());
+        if (cursor.getAfter() > 0) {
+            after = board.findComment(cursor.getAfter())
+                    .map(ArchivedComment::getPath)
+                    .filter(path -> path != null && path.startsWith(root.getPath()))
+                    .orElseThrow(() -> new InvalidRequestException("Cursor is not in thread " + id + ": " + cursor.getAfter()));
+        }
+        String from = after;
+        String end = Comment.subtreeEnd(root.getPath());
+        int maxThreadDepth = root.getDepth() + relativeDepth;
+        List<CommentResponseDto> comments = board.getComments().stream()
+                .filter(comment -> comment.getPath() != null && comment.getDepth() <= maxThreadDepth)
+                .filter(comment -> comment.getPath().compareTo(from) > 0 && comment.getPath().compareTo(end) < 0)
+                .sorted(Comparator.comparing(ArchivedComment::getPath))
+                .limit(cursor.getLimit() + 1L)
+                .map(comment -> comment.toResponseDto(board.getId()))
+                .collect(Collectors.toList());
+        return CursorResponse.of(comments, cursor.getLimit(), CommentResponseDto::getId);
+    }
+
+    private ArchivedBoard findArchivedBoard(Long boardId) {
+        return boardArchiveStore.findBoard(boardId)
+                .orElseThrow(() -> new IllegalArgumentException("Board not found: " + boardId));
+    }
+
+    private ArchivedBoard findArchivedBoardByCommentId(Long id) {
+        return boardArchiveStore.findBoardByCommentId(id)
+                .orElseThrow(() -> new IllegalArgumentException("Comment not found: " + id));
+    }
+
+    private static void validateReferences(CommentCreateDto dto) {
+        if (dto == null) {
+            throw new InvalidRequestException("Comment must not be null");
+        }
+        if (dto.getUserId() == null || dto.getBoardId() == null) {
+            throw new InvalidRequestException("userId and boardId are required");
+        }
+    }
+
+    private void validateParent(Comment parent, Long boardId) {
+        if (!parent.getBoard().getId().equals(boardId)) {
+            throw new InvalidRequestException("Parent comment " + parent.getId() + " is not on board " + boardId);
+        }
+        if (parent.getDepth() + 1 > maxDepth) {
+            throw new InvalidRequestException("Reply depth exceeds " + maxDepth + " under comment " + parent.getId());
         }
-        commentRepository.deleteById(id);
     }
 }
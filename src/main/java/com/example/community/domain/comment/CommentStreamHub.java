@@ -0,0 +1,191 @@
+package com.example.community.domain.comment;
+
+import com.example.community.domain.comment.dto.CommentResponseDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 게시글별 새 댓글 SSE 팬아웃 허브
+ * 구독자마다 크기가 제한된 버퍼를 두고, 전송할 것이 있을 때만 가상 스레드 하나가 버퍼를 비운다. (대기 중인 연결은 스레드를 쓰지 않는다)
+ * 쓰기가 막힌 구독자는 자기 가상 스레드만 붙잡으므로 다른 구독자의 전송을 막지 않는다.
+ * 버퍼가 가득 찬 구독자와 전송이 write-timeout 안에 끝나지 않는 구독자는 연결을 끊는다.
+ */
+@Slf4j
+@Component
+public class CommentStreamHub {
+
+    private static final String EVENT_NAME = "comment";
+
+    private final ConcurrentMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Executor deliveryExecutor;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long writeTimeoutNanos;
+
+    @Autowired
+    public CommentStreamHub(@Value("${community.comment.stream.buffer-size}") int bufferSize,
+                            @Value("${community.comment.stream.timeout}") Duration timeout,
+                            @Value("${community.comment.stream.write-timeout}") Duration writeTimeout) {
+        this(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("comment-stream-", 0).factory()),
+                bufferSize, timeout, writeTimeout);
+    }
+
+    CommentStreamHub(Executor deliveryExecutor, int bufferSize, Duration timeout, Duration writeTimeout) {
+        this.deliveryExecutor = deliveryExecutor;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+    }
+
+    public SseEmitter subscribe(Long boardId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(boardId, emitter, bufferSize);
+        subscribers.computeIfAbsent(boardId, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+        return emitter;
+    }
+
+    public void publish(CommentResponseDto comment) {
+        Set<Subscriber> boardSubscribers = subscribers.get(comment.getBoardId());
+        if (boardSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : boardSubscribers) {
+            if (!subscriber.buffer.offer(comment)) {
+                log.debug("Disconnecting slow comment stream subscriber on board {}", comment.getBoardId());
+                disconnect(subscriber, null);
+                continue;
+            }
+            scheduleDelivery(subscriber);
+        }
+    }
+
+    /**
+     * 주기적으로 모든 연결에 SSE 주석 이벤트를 보내 끊긴 연결을 일찍 찾아낸다.
+     * 같은 주기에 write-timeout을 넘긴 전송(쓰기가 막혔거나 전송 스레드를 얻지 못한 구독자)을 끊는다.
+     */
+    @Scheduled(fixedDelayString = "${community.comment.stream.heartbeat-interval-ms}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        subscribers.values().forEach(boardSubscribers -> boardSubscribers.forEach(subscriber -> {
+            long scheduledAt = subscriber.scheduledAt;
+            if (scheduledAt != 0 && now - scheduledAt >= writeTimeoutNanos) {
+                log.debug("Disconnecting stalled comment stream subscriber on board {}", subscriber.boardId);
+                disconnect(subscriber, new TimeoutException("SSE write did not finish within the write timeout"));
+                return;
+            }
+            subscriber.heartbeatDue.set(true);
+            scheduleDelivery(subscriber);
+        }));
+    }
+
+    public int getSubscriberCount(Long boardId) {
+        Set<Subscriber> boardSubscribers = subscribers.get(boardId);
+        return boardSubscribers == null ? 0 : boardSubscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(boardSubscribers -> boardSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+        if (deliveryExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private void scheduleDelivery(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            subscriber.scheduledAt = System.nanoTime();
+            deliveryExecutor.execute(() -> deliver(subscriber));
+        }
+    }
+
+    private void deliver(Subscriber subscriber) {
+        subscriber.deliveryThread = Thread.currentThread();
+        try {
+            CommentResponseDto comment;
+            while ((comment = subscriber.buffer.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .name(EVENT_NAME)
+                        .id(String.valueOf(comment.getId()))
+                        .data(comment));
+            }
+            if (subscriber.heartbeatDue.getAndSet(false)) {
+                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            unsubscribe(subscriber);
+            subscriber.buffer.clear();
+            return;
+        } finally {
+            subscriber.deliveryThread = null;
+            subscriber.scheduledAt = 0;
+            subscriber.scheduled.set(false);
+        }
+        // 전송을 마친 직후 들어온 이벤트가 남아 있으면 다시 예약한다
+        if (!subscriber.buffer.isEmpty() || subscriber.heartbeatDue.get()) {
+            scheduleDelivery(subscriber);
+        }
+    }
+
+    private void disconnect(Subscriber subscriber, Throwable cause) {
+        unsubscribe(subscriber);
+        subscriber.buffer.clear();
+        // 막힌 쓰기에서 빠져나오도록 전송 스레드를 깨운다
+        Thread deliveryThread = subscriber.deliveryThread;
+        if (deliveryThread != null) {
+            deliveryThread.interrupt();
+        }
+        if (cause == null) {
+            subscriber.emitter.complete();
+        } else {
+            subscriber.emitter.completeWithError(cause);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.boardId, (key, boardSubscribers) -> {
+            boardSubscribers.remove(subscriber);
+            return boardSubscribers.isEmpty() ? null : boardSubscribers;
+        });
+    }
+
+    private static class Subscriber {
+
+        private final Long boardId;
+        private final SseEmitter emitter;
+        private final Queue<CommentResponseDto> buffer;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        // 전송이 예약된 시각 (System.nanoTime). 예약된 전송이 없으면 0
+        private volatile long scheduledAt;
+        private volatile Thread deliveryThread;
+
+        Subscriber(Long boardId, SseEmitter emitter, int bufferSize) {
+            this.boardId = boardId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
@@ -12,4 +12,10 @@ public class CommentCreateDto {
     private String content;
     private Long userId;
     private Long boardId;
+    // 답글이면 부모 댓글 id
+    private Long parentId;
+
+    public CommentCreateDto(String content, Long userId, Long boardId) {
+        this(content, userId, boardId, null);
+    }
 }
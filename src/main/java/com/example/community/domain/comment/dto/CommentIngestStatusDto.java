@@ -0,0 +1,32 @@
+package com.example.community.domain.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class CommentIngestStatusDto {
+
+    public enum Status { PENDING, CREATED, FAILED }
+
+    private UUID provisionalId;
+    private Status status;
+    // CREATED일 때만 채워진다
+    private Long commentId;
+    // FAILED일 때만 채워진다
+    private String error;
+
+    public static CommentIngestStatusDto pending(UUID provisionalId) {
+        return new CommentIngestStatusDto(provisionalId, Status.PENDING, null, null);
+    }
+
+    public static CommentIngestStatusDto created(UUID provisionalId, Long commentId) {
+        return new CommentIngestStatusDto(provisionalId, Status.CREATED, commentId, null);
+    }
+
+    public static CommentIngestStatusDto failed(UUID provisionalId, String error) {
+        return new CommentIngestStatusDto(provisionalId, Status.FAILED, null, error);
+    }
+}
@@ -15,6 +15,8 @@ public class CommentResponseDto {
     private Long userId;
     private String userName;
     private Long boardId;
+    private Long parentId;
+    private int depth;
     private LocalDateTime createdAt;
 
     public static CommentResponseDto from(Comment comment) {
@@ -24,6 +26,8 @@ public class CommentResponseDto {
                 comment.getUser().getId(),
                 comment.getUser().getName(),
                 comment.getBoard().getId(),
+                comment.getParentId(),
+                comment.getDepth(),
                 comment.getCreatedAt()
         );
     }
@@ -0,0 +1,43 @@
+package com.example.community.domain.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 로컬/테스트용 알림 채널
+ * 실제로 발송하지 않고 최근 알림을 메모리에 보관한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "community.notification.sink", havingValue = "memory", matchIfMissing = true)
+public class InMemoryNotificationSink implements NotificationSink {
+
+    private static final int MAX_RETAINED = 1000;
+
+    private final Deque<Notification> delivered = new ArrayDeque<>();
+
+    @Override
+    public synchronized void deliver(List<Notification> notifications) {
+        for (Notification notification : notifications) {
+            if (delivered.size() == MAX_RETAINED) {
+                delivered.removeFirst();
+            }
+            delivered.addLast(notification);
+        }
+        log.debug("Delivered {} notifications", notifications.size());
+    }
+
+    public synchronized List<Notification> getDelivered() {
+        return new ArrayList<>(delivered);
+    }
+
+    public synchronized void clear() {
+        delivered.clear();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.community.domain.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 작성자에게 보내는 새 댓글 알림
+ * 같은 게시글에 쌓인 여러 댓글은 하나의 알림으로 합쳐진다.
+ */
+@Getter
+@AllArgsConstructor
+public class Notification {
+
+    private Long recipientId;
+    private Long boardId;
+    private String boardTitle;
+    private int commentCount;
+    private Long latestCommentId;
+}
@@ -0,0 +1,191 @@
+package com.example.community.domain.notification;
+
+import com.example.community.domain.board.BoardAuthor;
+import com.example.community.domain.board.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 아웃박스 발송기
+ * 댓글 등록 요청 경로 밖에서 발송할 수 있는 아웃박스 행을 오래된 순으로 배치 단위로 읽어,
+ * 게시글별로 합친 알림을 NotificationSink로 보내고 처리한 행을 삭제한다.
+ * 읽기와 결과 반영은 각각 짧은 트랜잭션으로 하고 발송은 트랜잭션 밖에서 하므로, 발송하는 동안 커넥션을 붙잡지 않는다.
+ * 발송에 실패한 알림의 행은 retry-delay 뒤로 미뤄 뒤의 행이 먼저 발송되게 한다.
+ * max-attempts번 실패한 행은 경고 로그를 남기고 버린다. (받을 수 없는 알림이 아웃박스에 계속 남아 매번 다시 읽히지 않도록)
+ * 읽은 행을 다른 인스턴스와 나누는 잠금이 없으므로 발송기는 한 인스턴스에서만 실행해야 한다. (여러 인스턴스면 중복 발송된다)
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final BoardRepository boardRepository;
+    private final NotificationSink notificationSink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retryDelay;
+    private final int maxAttempts;
+
+    public NotificationDispatcher(NotificationOutboxRepository outboxRepository,
+                                  BoardRepository boardRepository,
+                                  NotificationSink notificationSink,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${community.notification.batch-size}") int batchSize,
+                                  @Value("${community.notification.retry-delay}") Duration retryDelay,
+                                  @Value("${community.notification.max-attempts}") int maxAttempts) {
+        this.outboxRepository = outboxRepository;
+        this.boardRepository = boardRepository;
+        this.notificationSink = notificationSink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retryDelay = retryDelay;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Scheduled(fixedDelayString = "${community.notification.dispatch-interval-ms}")
+    public void dispatch() {
+        Batch batch;
+        do {
+            batch = Objects.requireNonNull(transactionTemplate.execute(status -> claimBatch()));
+            if (batch.size == 0) {
+                return;
+            }
+            List<Delivery> failed = deliver(batch.deliveries);
+            List<Long> doneIds = new ArrayList<>(batch.skippedIds);
+            batch.deliveries.stream()
+                    .filter(delivery -> !failed.contains(delivery))
+                    .forEach(delivery -> delivery.rows.forEach(row -> doneIds.add(row.getId())));
+            List<Long> failedIds = new ArrayList<>();
+            List<Long> exhaustedIds = new ArrayList<>();
+            failed.forEach(delivery -> delivery.rows.forEach(row ->
+                    (row.getAttempts() + 1 >= maxAttempts ? exhaustedIds : failedIds).add(row.getId())));
+            if (!exhaustedIds.isEmpty()) {
+                log.warn("Dropping {} outbox rows after {} failed attempts: {}", exhaustedIds.size(), maxAttempts, exhaustedIds);
+                doneIds.addAll(exhaustedIds);
+            }
+            transactionTemplate.executeWithoutResult(status -> complete(doneIds, failedIds));
+            log.debug("Dispatched {} outbox rows as {} notifications, {} failed",
+                    batch.size, batch.deliveries.size() - failed.size(), failed.size());
+            // 전부 실패했다면 발송 채널이 내려간 것으로 보고 다음 주기에 다시 시도한다
+            if (!failed.isEmpty() && failed.size() == batch.deliveries.size()) {
+                return;
+            }
+        } while (batch.size == batchSize);
+    }
+
+    private Batch claimBatch() {
+        List<NotificationOutbox> rows = outboxRepository.findAvailable(LocalDateTime.now(), PageRequest.of(0, batchSize));
+        if (rows.isEmpty()) {
+            return new Batch(0, List.of(), List.of());
+        }
+
+        Map<Long, List<NotificationOutbox>> rowsByBoard = rows.stream()
+                .collect(Collectors.groupingBy(NotificationOutbox::getBoardId, LinkedHashMap::new, Collectors.toList()));
+        Map<Long, BoardAuthor> authors = boardRepository.findAuthorsByIdIn(rowsByBoard.keySet()).stream()
+                .collect(Collectors.toMap(BoardAuthor::getId, Function.identity()));
+
+        List<Delivery> deliveries = new ArrayList<>();
+        List<Long> skippedIds = new ArrayList<>();
+        rowsByBoard.forEach((boardId, boardRows) -> {
+            BoardAuthor author = authors.get(boardId);
+            if (author == null) {
+                // 그 사이 삭제된 게시글
+                boardRows.forEach(row -> skippedIds.add(row.getId()));
+                return;
+            }
+            // 작성자가 자기 게시글에 단 댓글은 알리지 않는다
+            List<NotificationOutbox> others = new ArrayList<>();
+            boardRows.forEach(row -> {
+                if (row.getCommenterId().equals(author.getUserId())) {
+                    skippedIds.add(row.getId());
+                } else {
+                    others.add(row);
+                }
+            });
+            if (others.isEmpty()) {
+                return;
+            }
+            Notification notification = new Notification(
+                    author.getUserId(),
+                    boardId,
+                    author.getTitle(),
+                    others.size(),
+                    others.get(others.size() - 1).getCommentId()
+            );
+            deliveries.add(new Delivery(notification, others));
+        });
+        return new Batch(rows.size(), deliveries, skippedIds);
+    }
+
+    // 실패한 발송 목록을 돌려준다. 한 번에 보내다 실패하면 건별로 다시 보내 실패한 알림만 골라낸다
+    private List<Delivery> deliver(List<Delivery> deliveries) {
+        if (deliveries.isEmpty()) {
+            return List.of();
+        }
+        try {
+            notificationSink.deliver(deliveries.stream().map(delivery -> delivery.notification).collect(Collectors.toList()));
+            return List.of();
+        } catch (RuntimeException e) {
+            log.warn("Delivering {} notifications failed, retrying one by one: {}", deliveries.size(), e.getMessage());
+        }
+        List<Delivery> failed = new ArrayList<>();
+        for (Delivery delivery : deliveries) {
+            try {
+                notificationSink.deliver(List.of(delivery.notification));
+            } catch (RuntimeException e) {
+                log.warn("Delivering notification for board {} failed, retrying after {}", delivery.notification.getBoardId(), retryDelay, e);
+                failed.add(delivery);
+            }
+        }
+        return failed;
+    }
+
+    private void complete(List<Long> doneIds, List<Long> failedIds) {
+        if (!doneIds.isEmpty()) {
+            outboxRepository.deleteAllByIdInBatch(doneIds);
+        }
+        if (!failedIds.isEmpty()) {
+            outboxRepository.deferAll(failedIds, LocalDateTime.now().plus(retryDelay));
+        }
+    }
+
+    private static final class Batch {
+
+        private final int size;
+        private final List<Delivery> deliveries;
+        // 알릴 필요가 없어 바로 지우는 행 (삭제된 게시글, 자기 댓글)
+        private final List<Long> skippedIds;
+
+        private Batch(int size, List<Delivery> deliveries, List<Long> skippedIds) {
+            this.size = size;
+            this.deliveries = deliveries;
+            this.skippedIds = skippedIds;
+        }
+    }
+
+    private static final class Delivery {
+
+        private final Notification notification;
+        private final List<NotificationOutbox> rows;
+
+        private Delivery(Notification notification, List<NotificationOutbox> rows) {
+            this.notification = notification;
+            this.rows = rows;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.community.domain.notification;
+
+import com.example.community.domain.comment.Comment;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 알림 아웃박스
+ * 댓글과 같은 트랜잭션에서 기록되고, NotificationDispatcher가 배치로 읽어 발송한 뒤 삭제한다.
+ * 발송에 실패한 행은 attempts를 올리고 availableAt을 뒤로 미뤄 다시 시도한다.
+ */
+@Entity
+@Table(name = "notification_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox {
+
+    // 댓글 일괄 등록 시 댓글과 함께 배치 INSERT 되도록 시퀀스를 사용한다
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_outbox_seq_generator")
+    @SequenceGenerator(name = "notification_outbox_seq_generator", sequenceName = "notification_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long boardId;
+
+    @Column(nullable = false)
+    private Long commentId;
+
+    @Column(nullable = false)
+    private Long commenterId;
+
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // 이 시각 이후에 발송 대상이 된다
+    @Column(nullable = false)
+    private LocalDateTime availableAt;
+
+    private NotificationOutbox(Long boardId, Long commentId, Long commenterId) {
+        this.boardId = boardId;
+        this.commentId = commentId;
+        this.commenterId = commenterId;
+        this.createdAt = LocalDateTime.now();
+        this.availableAt = this.createdAt;
+    }
+
+    public static NotificationOutbox from(Comment comment) {
+        return new NotificationOutbox(comment.getBoard().getId(), comment.getId(), comment.getUser().getId());
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.community.domain.notification;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    @Query("select o from NotificationOutbox o where o.availableAt <= :now order by o.id")
+    List<NotificationOutbox> findAvailable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update NotificationOutbox o set o.attempts = o.attempts + 1, o.availableAt = :retryAt where o.id in :ids")
+    int deferAll(@Param("ids") Collection<Long> ids, @Param("retryAt") LocalDateTime retryAt);
+}
@@ -0,0 +1,13 @@
+package com.example.community.domain.notification;
+
+import java.util.List;
+
+/**
+ * 알림 발송 채널
+ * 예외를 던지면 해당 알림의 아웃박스가 남아 retry-delay 뒤에 다시 발송된다. (at-least-once)
+ * 발송은 DB 트랜잭션 밖에서 호출된다.
+ */
+public interface NotificationSink {
+
+    void deliver(List<Notification> notifications);
+}
@@ -0,0 +1,129 @@
+package com.example.community.domain.user;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 이메일의 블룸 필터
+ * mightContain이 false면 DB를 보지 않고도 사용 가능한 이메일로 판단할 수 있다. true는 오탐일 수 있으므로 DB로 확인한다.
+ * 삭제는 반영하지 않는다. (탈퇴한 이메일은 오탐으로 남아 DB 조회로 넘어간다)
+ * 기동 후 추가된 이메일은 이 인스턴스의 UserService를 거친 것만 반영된다. 여러 인스턴스가 같은 DB를 쓰거나
+ * 다른 경로(배치, SQL 스크립트 등)로 users에 쓰는 환경에서는 "없음" 답이 틀릴 수 있으므로 enabled=false로 두어 항상 DB로 확인한다.
+ */
+@Slf4j
+@Component
+public class EmailBloomFilter {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    // 시작 시 전체 이메일을 읽기 전에는 모든 이메일을 "있을 수 있음"으로 답한다
+    private volatile boolean loaded;
+
+    public EmailBloomFilter(UserRepository userRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${community.user.email-filter.enabled}") boolean enabled,
+                            @Value("${community.user.email-filter.expected-insertions}") long expectedInsertions,
+                            @Value("${community.user.email-filter.false-positive-rate}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        // m = -n ln p / (ln 2)^2, k = m / n ln 2
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, (m + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (bitCount / 64));
+    }
+
+    // 재구성 중에 가입한 이메일도 같은 비트 배열에 들어가므로 배열을 교체하지 않는다
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            log.info("Email bloom filter disabled, email checks always query the database");
+            return;
+        }
+        LongAdder count = new LongAdder();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<String> emails = userRepository.streamAllEmails()) {
+                emails.forEach(email -> {
+                    put(email);
+                    count.increment();
+                });
+            }
+        });
+        loaded = true;
+        log.info("Loaded {} emails into bloom filter ({} bits, {} hashes)", count.sum(), bitCount, hashCount);
+    }
+
+    public void put(String email) {
+        long[] hashes = hash(email);
+        for (int i = 0; i < hashCount; i++) {
+            long index = bitIndex(hashes, i);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            while (((current = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                // 다른 스레드와 같은 워드를 갱신하면 다시 시도한다
+            }
+        }
+    }
+
+    public boolean mightContain(String email) {
+        if (!loaded) {
+            return true;
+        }
+        long[] hashes = hash(email);
+        for (int i = 0; i < hashCount; i++) {
+            long index = bitIndex(hashes, i);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void markLoaded() {
+        loaded = true;
+    }
+
+    private long bitIndex(long[] hashes, int i) {
+        return Math.floorMod(hashes[0] + i * hashes[1], bitCount);
+    }
+
+    // 대소문자만 다른 이메일은 같은 값으로 본다. 오탐만 늘 뿐 누락은 생기지 않는다
+    private static long[] hash(String email) {
+        byte[] bytes = email.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+        long h1 = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            h1 ^= b;
+            h1 *= 0x100000001b3L;
+        }
+        h1 = mix(h1);
+        long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L) | 1;
+        return new long[]{h1, h2};
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
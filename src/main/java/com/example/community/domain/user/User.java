@@ -24,6 +24,9 @@ public class User {
     @Column(nullable = false, unique = true)
     private String email;
 
+    @Version
+    private Long version;
+
     private LocalDateTime createdAt;
 
     @Builder
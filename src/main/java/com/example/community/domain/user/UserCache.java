@@ -0,0 +1,47 @@
+package com.example.community.domain.user;
+
+import com.example.community.domain.user.dto.UserResponseDto;
+import com.example.community.global.cache.CacheStatsDto;
+import com.example.community.global.cache.CacheStatsProvider;
+import com.example.community.global.cache.CachedResponse;
+import com.example.community.global.cache.ResponseCache;
+import com.example.community.global.cache.ResponseSerializer;
+import com.example.community.global.transaction.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+public class UserCache implements CacheStatsProvider {
+
+    private final ResponseCache<UserResponseDto> cache;
+
+    public UserCache(ResponseSerializer responseSerializer,
+                     @Value("${community.cache.user.maximum-weight}") DataSize maximumWeight,
+                     @Value("${community.cache.user.expire-after-write}") Duration expireAfterWrite) {
+        this.cache = new ResponseCache<>(responseSerializer, UserResponseDto::getETag, maximumWeight, expireAfterWrite);
+    }
+
+    public CachedResponse<UserResponseDto> getIfPresent(Long id) {
+        return cache.getIfPresent(id);
+    }
+
+    // 캐시에 없으면 loader로 읽어 직렬화해 둔다. 같은 id의 동시 요청은 한 번의 로딩을 공유한다
+    public CachedResponse<UserResponseDto> get(Long id, Function<Long, UserResponseDto> loader) {
+        return cache.get(id, loader);
+    }
+
+    // 커밋 전에 다른 요청이 이전 값을 다시 캐싱할 수 있으므로 커밋 후에 한 번 더 비운다
+    public void evict(Long id) {
+        cache.invalidate(id);
+        TransactionCallbacks.afterCommit(() -> cache.invalidate(id));
+    }
+
+    @Override
+    public CacheStatsDto getStats() {
+        return cache.getStats("users");
+    }
+}
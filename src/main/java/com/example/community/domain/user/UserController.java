@@ -1,9 +1,15 @@
 package com.example.community.domain.user;
 
+import com.example.community.domain.user.dto.EmailAvailabilityDto;
 import com.example.community.domain.user.dto.UserCreateDto;
 import com.example.community.domain.user.dto.UserResponseDto;
 import com.example.community.domain.user.dto.UserUpdateDto;
+import com.example.community.global.common.CursorRequest;
+import com.example.community.global.common.CursorResponse;
+import com.example.community.global.common.ETags;
+import com.example.community.global.common.MultiGetResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,13 +24,34 @@ public class UserController {
     private final UserService userService;
 
     @GetMapping
-    public ResponseEntity<List<UserResponseDto>> findAll() {
-        return ResponseEntity.ok(userService.findAll());
+    public ResponseEntity<CursorResponse<UserResponseDto>> findAll(CursorRequest cursor) {
+        return ResponseEntity.ok(userService.findAll(cursor));
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<UserResponseDto>> findAllByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(userService.findAllByIds(ids));
+    }
+
+    @GetMapping("/email-availability")
+    public ResponseEntity<EmailAvailabilityDto> checkEmail(@RequestParam String email) {
+        return ResponseEntity.ok(userService.checkEmail(email));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<UserResponseDto> findById(@PathVariable Long id) {
-        return ResponseEntity.ok(userService.findById(id));
+    public ResponseEntity<byte[]> findById(@PathVariable Long id,
+                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                           @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (ifNoneMatch != null) {
+            String etag = userService.findETag(id);
+            if (ETags.matchesWeak(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(ETags.matchedRepresentation(ifNoneMatch, etag))
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                        .build();
+            }
+        }
+        return userService.findResponseById(id).toResponseEntity(acceptEncoding);
     }
 
     @PostMapping
@@ -35,7 +62,8 @@ public class UserController {
 
     @PutMapping("/{id}")
     public ResponseEntity<UserResponseDto> update(@PathVariable Long id, @RequestBody UserUpdateDto dto) {
-        return ResponseEntity.ok(userService.update(id, dto));
+        UserResponseDto updated = userService.update(id, dto);
+        return ResponseEntity.ok().eTag(updated.getETag()).body(updated);
     }
 
     @DeleteMapping("/{id}")
@@ -1,13 +1,27 @@
 package com.example.community.domain.user;
 
+import com.example.community.domain.user.dto.EmailAvailabilityDto;
 import com.example.community.domain.user.dto.UserCreateDto;
 import com.example.community.domain.user.dto.UserResponseDto;
 import com.example.community.domain.user.dto.UserUpdateDto;
+import com.example.community.global.cache.CachedResponse;
+import com.example.community.global.common.CursorRequest;
+import com.example.community.global.common.CursorResponse;
+import com.example.community.global.common.ETags;
+import com.example.community.global.common.MultiGetResponse;
+import com.example.community.global.exception.ConflictException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -16,31 +30,85 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserCache userCache;
+    private final EmailBloomFilter emailBloomFilter;
 
-    public List<UserResponseDto> findAll() {
-        return userRepository.findAll().stream()
+    public CursorResponse<UserResponseDto> findAll(CursorRequest cursor) {
+        List<UserResponseDto> users = userRepository.findByIdGreaterThanOrderByIdAsc(cursor.getAfter(), cursor.toPageable()).stream()
                 .map(UserResponseDto::from)
                 .collect(Collectors.toList());
+        return CursorResponse.of(users, cursor.getLimit(), UserResponseDto::getId);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public UserResponseDto findById(Long id) {
-        User user = userRepository.findById(id)
+        return findResponseById(id).getValue();
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CachedResponse<UserResponseDto> findResponseById(Long id) {
+        return userCache.get(id, this::load);
+    }
+
+    // 캐시에 있는 유저는 그대로 쓰고, 나머지만 IN 쿼리 한 번으로 읽는다
+    public MultiGetResponse<UserResponseDto> findAllByIds(List<Long> ids) {
+        Set<Long> distinctIds = MultiGetResponse.distinctIds(ids);
+        Map<Long, UserResponseDto> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : distinctIds) {
+            CachedResponse<UserResponseDto> cached = userCache.getIfPresent(id);
+            if (cached == null) {
+                misses.add(id);
+            } else {
+                found.put(id, cached.getValue());
+            }
+        }
+        if (!misses.isEmpty()) {
+            userRepository.findAllById(misses).forEach(user -> found.put(user.getId(), UserResponseDto.from(user)));
+        }
+        return MultiGetResponse.of(distinctIds, found);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public String findETag(Long id) {
+        CachedResponse<UserResponseDto> cached = userCache.getIfPresent(id);
+        if (cached != null) {
+            return cached.getEtag();
+        }
+        Long version = userRepository.findVersionById(id)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + id));
-        return UserResponseDto.from(user);
+        return ETags.of(version);
     }
 
     @Transactional
     public UserResponseDto create(UserCreateDto dto) {
+        checkEmailAvailable(dto.getEmail());
         User user = dto.toEntity();
         User saved = userRepository.save(user);
+        // 롤백되더라도 오탐 하나가 늘 뿐이므로 커밋을 기다리지 않는다
+        emailBloomFilter.put(saved.getEmail());
         return UserResponseDto.from(saved);
     }
 
+    public EmailAvailabilityDto checkEmail(String email) {
+        return new EmailAvailabilityDto(email, isEmailAvailable(email));
+    }
+
     @Transactional
     public UserResponseDto update(Long id, UserUpdateDto dto) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + id));
+        if (!Objects.equals(user.getEmail(), dto.getEmail())) {
+            checkEmailAvailable(dto.getEmail());
+            emailBloomFilter.put(dto.getEmail());
+        }
         user.update(dto.getName(), dto.getEmail());
+        // 응답에 새 버전을 담기 위해 여기서 반영한다
+        userRepository.flush();
+        userCache.evict(id);
+        // 작성자 버전이 게시글 ETag에 포함되므로 이름 외의 변경에도 게시글 캐시를 비운다
+        eventPublisher.publishEvent(new UserUpdatedEvent(id));
         return UserResponseDto.from(user);
     }
 
@@ -50,5 +118,26 @@ public class UserService {
             throw new IllegalArgumentException("User not found: " + id);
         }
         userRepository.deleteById(id);
+        userCache.evict(id);
+    }
+
+    private void checkEmailAvailable(String email) {
+        if (!isEmailAvailable(email)) {
+            throw new ConflictException("Email already registered: " + email);
+        }
+    }
+
+    // 블룸 필터가 없다고 하면 DB를 보지 않는다. 있을 수도 있다고 할 때만 인덱스로 확인한다
+    private boolean isEmailAvailable(String email) {
+        if (email == null) {
+            return true;
+        }
+        return !emailBloomFilter.mightContain(email) || !userRepository.existsByEmail(email);
+    }
+
+    private UserResponseDto load(Long id) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + id));
+        return UserResponseDto.from(user);
     }
 }
@@ -0,0 +1,11 @@
+package com.example.community.domain.user;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class UserUpdatedEvent {
+
+    private final Long userId;
+}
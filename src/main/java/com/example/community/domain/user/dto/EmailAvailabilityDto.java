@@ -0,0 +1,12 @@
+package com.example.community.domain.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EmailAvailabilityDto {
+
+    private String email;
+    private boolean available;
+}
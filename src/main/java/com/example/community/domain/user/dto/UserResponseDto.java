@@ -1,6 +1,8 @@
 package com.example.community.domain.user.dto;
 
 import com.example.community.domain.user.User;
+import com.example.community.global.common.ETags;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -14,13 +16,20 @@ public class UserResponseDto {
     private String name;
     private String email;
     private LocalDateTime createdAt;
+    private Long version;
 
     public static UserResponseDto from(User user) {
         return new UserResponseDto(
                 user.getId(),
                 user.getName(),
                 user.getEmail(),
-                user.getCreatedAt()
+                user.getCreatedAt(),
+                user.getVersion()
         );
     }
+
+    @JsonIgnore
+    public String getETag() {
+        return ETags.of(version);
+    }
 }
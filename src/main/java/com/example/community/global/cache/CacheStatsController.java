@@ -0,0 +1,25 @@
+package com.example.community.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/admin/caches")
+@RequiredArgsConstructor
+public class CacheStatsController {
+
+    private final List<CacheStatsProvider> caches;
+
+    @GetMapping
+    public ResponseEntity<List<CacheStatsDto>> findAll() {
+        return ResponseEntity.ok(caches.stream()
+                .map(CacheStatsProvider::getStats)
+                .collect(Collectors.toList()));
+    }
+}
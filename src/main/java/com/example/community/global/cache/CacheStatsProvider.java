@@ -0,0 +1,6 @@
+package com.example.community.global.cache;
+
+public interface CacheStatsProvider {
+
+    CacheStatsDto getStats();
+}
@@ -0,0 +1,58 @@
+package com.example.community.global.cache;
+
+import com.example.community.global.common.ETags;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 직렬화까지 끝난 응답 캐시 항목
+ * DTO와 함께 미리 만든 JSON 바이트(필요하면 gzip 압축본)를 보관해, 캐시 적중 시 Jackson을 다시 거치지 않는다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class CachedResponse<T> {
+
+    private final T value;
+    private final String etag;
+    private final byte[] json;
+    // 압축 이득이 없는 작은 응답은 null
+    private final byte[] gzip;
+
+    // 캐시 메모리 예산 계산용 대략적인 크기. DTO의 문자열은 UTF-16이라 JSON 바이트의 2배로 잡는다
+    public int weigh() {
+        return json.length * 3 + (gzip == null ? 0 : gzip.length);
+    }
+
+    public ResponseEntity<byte[]> toResponseEntity(String acceptEncoding) {
+        return toResponseEntity(acceptEncoding, HttpHeaders.EMPTY);
+    }
+
+    // 압축본과 원본은 서로 다른 표현이라 ETag를 구분한다 (ETags.gzip). headers는 요청마다 달라지는 값을 싣는다
+    public ResponseEntity<byte[]> toResponseEntity(String acceptEncoding, HttpHeaders headers) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .headers(headers)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip != null && acceptsGzip(acceptEncoding)) {
+            return builder.eTag(ETags.gzip(etag)).header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzip);
+        }
+        return builder.eTag(etag).body(json);
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").equals("q=0");
+            }
+        }
+        return false;
+    }
+}
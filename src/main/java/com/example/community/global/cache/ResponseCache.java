@@ -0,0 +1,131 @@
+package com.example.community.global.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * 직렬화된 응답 캐시
+ * 로딩 중인 항목도 미완료 future로 캐시에 먼저 넣는다. 같은 키의 동시 조회는 그 future를 기다려 DB 조회를 한 번만 하고,
+ * 로딩 도중 invalidate 되면 future째로 빠지므로 수정 이전 값이 로딩을 마친 뒤 다시 캐시에 남지 않는다.
+ * 로딩은 호출한 스레드에서 락 없이 실행하므로 가상 스레드에서도 캐리어를 붙잡지 않는다.
+ */
+public class ResponseCache<T> {
+
+    private final AsyncCache<Long, CachedResponse<T>> cache;
+    private final ResponseSerializer responseSerializer;
+    private final Function<T, String> etagExtractor;
+    private final Function<T, ?> bodyExtractor;
+
+    public ResponseCache(ResponseSerializer responseSerializer, Function<T, String> etagExtractor,
+                         DataSize maximumWeight, Duration expireAfterWrite) {
+        this(responseSerializer, etagExtractor, Function.identity(), maximumWeight, expireAfterWrite);
+    }
+
+    // bodyExtractor: 직렬화할 본문. ETag가 대표하지 않는 필드는 여기서 빼야 같은 ETag에 다른 본문이 나가지 않는다
+    public ResponseCache(ResponseSerializer responseSerializer, Function<T, String> etagExtractor, Function<T, ?> bodyExtractor,
+                         DataSize maximumWeight, Duration expireAfterWrite) {
+        this.responseSerializer = responseSerializer;
+        this.etagExtractor = etagExtractor;
+        this.bodyExtractor = bodyExtractor;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight.toBytes())
+                .weigher((Long id, CachedResponse<T> response) -> response.weigh())
+                .expireAfterWrite(expireAfterWrite)
+                // 로딩이 끝난 future의 무게 계산을 완료한 스레드에서 바로 처리한다
+                .executor(Runnable::run)
+                .recordStats()
+                .buildAsync();
+    }
+
+    // 로딩이 끝난 항목만 돌려준다. 진행 중인 로딩은 기다리지 않는다
+    public CachedResponse<T> getIfPresent(Long id) {
+        CompletableFuture<CachedResponse<T>> future = cache.getIfPresent(id);
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return null;
+        }
+        return future.join();
+    }
+
+    // getIfPresent와 같지만 적중률 통계에 집계하지 않는다 (내부 갱신 작업용)
+    public CachedResponse<T> peek(Long id) {
+        CompletableFuture<CachedResponse<T>> future = cache.asMap().get(id);
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return null;
+        }
+        return future.join();
+    }
+
+    public CachedResponse<T> get(Long id, Function<Long, T> loader) {
+        CompletableFuture<CachedResponse<T>> created = new CompletableFuture<>();
+        CompletableFuture<CachedResponse<T>> future = cache.get(id, (key, executor) -> created);
+        if (future != created) {
+            return await(future);
+        }
+        try {
+            T value = loader.apply(id);
+            CachedResponse<T> response = serialize(value);
+            created.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            // 실패한 future는 캐시에서 빠지고, 기다리던 요청에는 같은 예외가 전달된다
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * expected가 아직 그대로 캐시에 있으면 updater로 바꾼 값을 다시 직렬화해 넣는다.
+     * 그 사이 다시 로딩됐거나 로딩 중인 항목은 updater를 적용해야 하는지 알 수 없으므로 비운다.
+     */
+    public void replaceOrInvalidate(Long id, CachedResponse<T> expected, UnaryOperator<T> updater) {
+        cache.asMap().computeIfPresent(id, (key, future) -> {
+            if (expected == null || !future.isDone() || future.isCompletedExceptionally() || future.join() != expected) {
+                return null;
+            }
+            T value = updater.apply(expected.getValue());
+            return CompletableFuture.completedFuture(serialize(value));
+        });
+    }
+
+    public void invalidate(Long id) {
+        cache.synchronous().invalidate(id);
+    }
+
+    // 로딩 중인 항목은 값을 알 수 없으므로 함께 비운다
+    public void invalidateIf(Predicate<T> predicate) {
+        cache.asMap().values().removeIf(future -> !future.isDone()
+                || future.isCompletedExceptionally()
+                || predicate.test(future.join().getValue()));
+    }
+
+    public CacheStatsDto getStats(String name) {
+        return CacheStatsDto.from(name, cache.synchronous());
+    }
+
+    private CachedResponse<T> serialize(T value) {
+        return responseSerializer.serialize(value, bodyExtractor.apply(value), etagExtractor.apply(value));
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
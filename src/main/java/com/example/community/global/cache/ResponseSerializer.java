@@ -0,0 +1,54 @@
+package com.example.community.global.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+public class ResponseSerializer {
+
+    private final ObjectMapper objectMapper;
+    private final boolean gzipEnabled;
+    private final long gzipMinSize;
+
+    public ResponseSerializer(ObjectMapper objectMapper,
+                              @Value("${community.cache.response.gzip.enabled}") boolean gzipEnabled,
+                              @Value("${community.cache.response.gzip.min-size}") DataSize gzipMinSize) {
+        this.objectMapper = objectMapper;
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinSize = gzipMinSize.toBytes();
+    }
+
+    public <T> CachedResponse<T> serialize(T value, String etag) {
+        return serialize(value, value, etag);
+    }
+
+    // body: 실제로 직렬화해 보낼 표현. value에서 응답마다 달라지는 필드를 뺀 것일 수 있다
+    public <T> CachedResponse<T> serialize(T value, Object body, String etag) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + value.getClass().getSimpleName(), e);
+        }
+        byte[] gzip = gzipEnabled && json.length >= gzipMinSize ? gzip(json) : null;
+        return new CachedResponse<>(value, etag, json, gzip);
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.community.global.common;
+
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+@Getter
+public class CursorRequest {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private final long after;
+    private final int limit;
+
+    public CursorRequest(Long after, Integer limit) {
+        this.after = after == null ? 0L : after;
+        this.limit = limit == null ? DEFAULT_LIMIT : Math.min(Math.max(limit, 1), MAX_LIMIT);
+    }
+
+    // 다음 페이지 존재 여부를 판단하기 위해 limit + 1건을 조회한다
+    public Pageable toPageable() {
+        return PageRequest.of(0, limit + 1);
+    }
+}
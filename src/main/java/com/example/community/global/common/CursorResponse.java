@@ -0,0 +1,24 @@
+package com.example.community.global.common;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorResponse<T> {
+
+    private List<T> content;
+    private Long nextCursor;
+    private boolean hasNext;
+
+    public static <T> CursorResponse<T> of(List<T> rows, int limit, Function<T, Long> cursorExtractor) {
+        boolean hasNext = rows.size() > limit;
+        List<T> content = hasNext ? rows.subList(0, limit) : rows;
+        Long nextCursor = hasNext ? cursorExtractor.apply(content.get(content.size() - 1)) : null;
+        return new CursorResponse<>(content, nextCursor, hasNext);
+    }
+}
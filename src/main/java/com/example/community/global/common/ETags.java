@@ -0,0 +1,63 @@
+package com.example.community.global.common;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public final class ETags {
+
+    private static final String GZIP_SUFFIX = "-gzip";
+
+    private ETags() {
+    }
+
+    public static String of(Object... versions) {
+        return Arrays.stream(versions)
+                .map(String::valueOf)
+                .collect(Collectors.joining("-", "\"", "\""));
+    }
+
+    // gzip 본문은 원본과 바이트가 달라 같은 강한 ETag를 쓸 수 없으므로 접미사를 붙인다 ("1-2" -> "1-2-gzip")
+    public static String gzip(String etag) {
+        return etag.substring(0, etag.length() - 1) + GZIP_SUFFIX + "\"";
+    }
+
+    // If-None-Match는 약한 비교: W/ 접두어를 무시한다
+    public static boolean matchesWeak(String header, String etag) {
+        return findMatch(header, etag, false) != null;
+    }
+
+    // If-Match는 강한 비교: 약한 ETag는 일치하지 않는다
+    public static boolean matchesStrong(String header, String etag) {
+        return findMatch(header, etag, true) != null;
+    }
+
+    // 304 응답에는 클라이언트가 가진 표현(원본/gzip)의 ETag를 돌려준다
+    public static String matchedRepresentation(String header, String etag) {
+        String matched = findMatch(header, etag, false);
+        return matched == null || matched.equals("*") ? etag : matched;
+    }
+
+    // 같은 버전의 gzip 표현 ETag도 일치로 본다
+    private static String findMatch(String header, String etag, boolean strong) {
+        if (header == null) {
+            return null;
+        }
+        String gzipEtag = gzip(etag);
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return tag;
+            }
+            if (tag.startsWith("W/")) {
+                if (strong) {
+                    continue;
+                }
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag) || tag.equals(gzipEtag)) {
+                return tag;
+            }
+        }
+        return null;
+    }
+}
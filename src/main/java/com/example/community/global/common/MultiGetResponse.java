@@ -0,0 +1,49 @@
+package com.example.community.global.common;
+
+import com.example.community.global.exception.InvalidRequestException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MultiGetResponse<T> {
+
+    public static final int MAX_IDS = 100;
+
+    private List<T> items;
+    private List<Long> missingIds;
+
+    // 요청 순서를 유지한 채 중복을 제거한다
+    public static Set<Long> distinctIds(List<Long> ids) {
+        // ?ids=1,,2 처럼 빈 값이 섞이면 null로 바인딩된다. 조회 단계의 NPE(500) 대신 400으로 거절한다
+        if (ids.contains(null)) {
+            throw new InvalidRequestException("ids must not contain empty values: " + ids);
+        }
+        Set<Long> distinct = new LinkedHashSet<>(ids);
+        if (distinct.size() > MAX_IDS) {
+            throw new InvalidRequestException("Too many ids: " + distinct.size() + " (max " + MAX_IDS + ")");
+        }
+        return distinct;
+    }
+
+    public static <T> MultiGetResponse<T> of(Set<Long> ids, Map<Long, T> found) {
+        List<T> items = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            T item = found.get(id);
+            if (item == null) {
+                missingIds.add(id);
+            } else {
+                items.add(item);
+            }
+        }
+        return new MultiGetResponse<>(items, missingIds);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.community.global.config;
+
+import com.example.community.domain.archive.BoardArchiver;
+import com.example.community.domain.notification.NotificationDispatcher;
+import com.example.community.global.metrics.EntityLoadListener;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LazyInitializationConfig {
+
+    // spring.main.lazy-initialization을 켜도 다른 빈이 의존하지 않아 만들어지지 않는 빈은 바로 만든다
+    @Bean
+    static LazyInitializationExcludeFilter eagerBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(NotificationDispatcher.class, BoardArchiver.class, EntityLoadListener.class);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.community.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 예약 작업 스케줄러 설정.
+ * 풀 크기는 spring.task.scheduling.pool.size 로 정한다. 한 작업이 오래 걸려도
+ * (예: BoardArchiver) 조회수 반영이나 알림 발송이 밀리지 않도록 작업 수 이상으로 둔다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
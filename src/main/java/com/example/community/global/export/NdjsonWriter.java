@@ -0,0 +1,47 @@
+package com.example.community.global.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Component
+public class NdjsonWriter {
+
+    // 리포지토리 스트림 쿼리의 fetch size와 맞춘다
+    private static final int CLEAR_INTERVAL = 500;
+    private static final byte NEW_LINE = '\n';
+
+    private final ObjectWriter objectWriter;
+    private final EntityManager entityManager;
+
+    public NdjsonWriter(ObjectMapper objectMapper, EntityManager entityManager) {
+        this.objectWriter = objectMapper.writer();
+        this.entityManager = entityManager;
+    }
+
+    public <E, D> long write(Stream<E> rows, Function<E, D> mapper, OutputStream out) throws IOException {
+        long count = 0;
+        Iterator<E> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            E row = iterator.next();
+            out.write(objectWriter.writeValueAsBytes(mapper.apply(row)));
+            out.write(NEW_LINE);
+            entityManager.detach(row);
+
+            if (++count % CLEAR_INTERVAL == 0) {
+                // 함께 로딩된 연관 엔티티까지 영속성 컨텍스트에서 비워 메모리를 일정하게 유지한다
+                entityManager.clear();
+                out.flush();
+            }
+        }
+        out.flush();
+        return count;
+    }
+}
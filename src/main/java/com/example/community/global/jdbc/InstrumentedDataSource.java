@@ -0,0 +1,132 @@
+package com.example.community.global.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 커넥션 획득 대기 시간과 SQL 실행 시간을 측정해 JdbcExecutionListener에 전달하는 DataSource 래퍼
+ * 감싼 뒤에도 컨테이너가 종료 시 close()를 호출하도록 Closeable을 구현하고, 커넥션 풀에 그대로 위임한다.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource implements Closeable {
+
+    private volatile List<JdbcExecutionListener> listeners = List.of();
+
+    public InstrumentedDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    public void setListeners(List<JdbcExecutionListener> listeners) {
+        this.listeners = List.copyOf(listeners);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long startedAt = System.nanoTime();
+        Connection connection = super.getConnection();
+        notifyConnectionAcquired(System.nanoTime() - startedAt);
+        return wrapConnection(connection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long startedAt = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        notifyConnectionAcquired(System.nanoTime() - startedAt);
+        return wrapConnection(connection);
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (isIdentityMethod(method)) {
+                        return identity(proxy, method, args);
+                    }
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement) {
+                        String preparedSql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                        return wrapStatement(statement, method.getReturnType(), preparedSql);
+                    }
+                    return result;
+                });
+    }
+
+    private Object wrapStatement(Statement statement, Class<?> statementType, String preparedSql) {
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{statementType},
+                (proxy, method, args) -> {
+                    if (isIdentityMethod(method)) {
+                        return identity(proxy, method, args);
+                    }
+                    if (!method.getName().startsWith("execute")) {
+                        return invoke(statement, method, args);
+                    }
+                    String sql = preparedSql != null ? preparedSql
+                            : (args != null && args.length > 0 && args[0] instanceof String text ? text : null);
+                    long startedAt = System.nanoTime();
+                    try {
+                        return invoke(statement, method, args);
+                    } finally {
+                        notifyExecuted(sql, System.nanoTime() - startedAt);
+                    }
+                });
+    }
+
+    private void notifyExecuted(String sql, long elapsedNanos) {
+        for (JdbcExecutionListener listener : listeners) {
+            try {
+                listener.onExecute(sql, elapsedNanos);
+            } catch (RuntimeException ignored) {
+                // 측정 실패가 쿼리 실행을 방해하지 않도록 무시한다
+            }
+        }
+    }
+
+    private void notifyConnectionAcquired(long waitNanos) {
+        for (JdbcExecutionListener listener : listeners) {
+            try {
+                listener.onConnectionAcquired(waitNanos);
+            } catch (RuntimeException ignored) {
+                // 측정 실패가 커넥션 획득을 방해하지 않도록 무시한다
+            }
+        }
+    }
+
+    private static boolean isIdentityMethod(Method method) {
+        return method.getDeclaringClass() == Object.class
+                && (method.getName().equals("equals") || method.getName().equals("hashCode"));
+    }
+
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return method.getName().equals("equals") ? proxy == args[0] : System.identityHashCode(proxy);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
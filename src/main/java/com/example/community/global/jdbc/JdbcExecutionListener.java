@@ -0,0 +1,9 @@
+package com.example.community.global.jdbc;
+
+public interface JdbcExecutionListener {
+
+    void onExecute(String sql, long elapsedNanos);
+
+    default void onConnectionAcquired(long waitNanos) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.community.global.jdbc;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Configuration
+public class JdbcInstrumentationConfig {
+
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // 리스너가 DataSource보다 먼저 만들어져야 하는 순환 의존을 피하기 위해 컨텍스트 초기화가 끝난 뒤 연결한다
+    @EventListener(ContextRefreshedEvent.class)
+    public void registerListeners(ContextRefreshedEvent event) {
+        ApplicationContext context = event.getApplicationContext();
+        List<JdbcExecutionListener> listeners = context.getBeanProvider(JdbcExecutionListener.class)
+                .orderedStream()
+                .collect(Collectors.toList());
+        // 지연 초기화 시에는 DataSource가 아직 감싸지기 전이라 InstrumentedDataSource 타입으로 찾을 수 없다
+        context.getBeansOfType(DataSource.class).values().stream()
+                .filter(InstrumentedDataSource.class::isInstance)
+                .map(InstrumentedDataSource.class::cast)
+                .forEach(dataSource -> dataSource.setListeners(listeners));
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.community.global.jdbc;
+
+import com.example.community.global.exception.InvalidRequestException;
+import com.example.community.global.jdbc.dto.SlowSqlDto;
+import com.example.community.global.jdbc.dto.SqlShapeDto;
+import com.example.community.global.metrics.RequestMetricsContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * SQL 프로파일러
+ * 리터럴과 IN 목록을 지운 "SQL 모양" 단위로 실행 횟수/총 시간/최대 시간을 모으고,
+ * 기준 시간을 넘은 SQL만 로그와 고정 크기 링 버퍼에 남긴다.
+ * 모양 수가 한도를 넘으면 가장 오래 실행되지 않은 모양을 버려, 새로 생긴 쿼리도 계속 집계된다.
+ */
+@Slf4j
+@Component
+public class SqlProfiler implements JdbcExecutionListener {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_PATHS_PER_SHAPE = 10;
+    private static final String UNKNOWN_SQL = "<unknown>";
+
+    private final long slowThresholdNanos;
+    private final int maxShapes;
+    private final ConcurrentMap<String, String> normalizedCache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ShapeStats> shapes = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<SlowSqlDto> slowLog;
+    private final AtomicLong slowLogCursor = new AtomicLong();
+    // 모양별 마지막 실행 순서. 한도를 넘었을 때 가장 오래 안 쓰인 모양을 고르는 데 쓴다
+    private final AtomicLong clock = new AtomicLong();
+
+    public SqlProfiler(@Value("${community.sql.slow-threshold-ms}") long slowThresholdMillis,
+                       @Value("${community.sql.max-shapes}") int maxShapes,
+                       @Value("${community.sql.slow-log-size}") int slowLogSize) {
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.maxShapes = maxShapes;
+        this.slowLog = new AtomicReferenceArray<>(slowLogSize);
+    }
+
+    @Override
+    public void onExecute(String sql, long elapsedNanos) {
+        String shape = normalize(sql);
+        RequestMetricsContext context = RequestMetricsContext.current();
+        String path = context != null ? context.getPath() : null;
+
+        ShapeStats stats = shapes.get(shape);
+        if (stats == null) {
+            stats = shapes.computeIfAbsent(shape, key -> new ShapeStats(clock.incrementAndGet()));
+            if (shapes.size() > maxShapes) {
+                evictLeastRecentlySeen(shape);
+            }
+        }
+        stats.record(elapsedNanos, path, clock.incrementAndGet());
+
+        if (elapsedNanos >= slowThresholdNanos) {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            log.warn("Slow SQL ({} ms) [{}]: {}", elapsedMillis, path, shape);
+            int slot = (int) (slowLogCursor.getAndIncrement() % slowLog.length());
+            slowLog.set(slot, new SlowSqlDto(shape, elapsedMillis, path, LocalDateTime.now()));
+        }
+    }
+
+    public List<SqlShapeDto> findTop(int limit, boolean byTotalTime) {
+        if (limit < 0) {
+            throw new InvalidRequestException("n must not be negative: " + limit);
+        }
+        Comparator<SqlShapeDto> order = byTotalTime
+                ? Comparator.comparingDouble(SqlShapeDto::getTotalMillis)
+                : Comparator.comparingDouble(SqlShapeDto::getMaxMillis);
+        return shapes.entrySet().stream()
+                .map(entry -> entry.getValue().toDto(entry.getKey()))
+                .sorted(order.reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    public List<SlowSqlDto> findRecentSlow() {
+        List<SlowSqlDto> recent = new ArrayList<>();
+        for (int i = 0; i < slowLog.length(); i++) {
+            SlowSqlDto entry = slowLog.get(i);
+            if (entry != null) {
+                recent.add(entry);
+            }
+        }
+        recent.sort(Comparator.comparing(SlowSqlDto::getExecutedAt).reversed());
+        return recent;
+    }
+
+    public void reset() {
+        shapes.clear();
+        for (int i = 0; i < slowLog.length(); i++) {
+            slowLog.set(i, null);
+        }
+    }
+
+    // 새 모양이 들어올 때만 호출되므로 전체를 훑어도 실행 경로에 부담이 적다
+    private void evictLeastRecentlySeen(String keep) {
+        shapes.entrySet().stream()
+                .filter(entry -> !entry.getKey().equals(keep))
+                .min(Comparator.comparingLong(entry -> entry.getValue().lastSeen))
+                .ifPresent(entry -> shapes.remove(entry.getKey(), entry.getValue()));
+    }
+
+    static String normalizeSql(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    private String normalize(String sql) {
+        if (sql == null) {
+            return UNKNOWN_SQL;
+        }
+        String shape = normalizedCache.get(sql);
+        if (shape == null) {
+            shape = normalizeSql(sql);
+            // 리터럴이 박힌 SQL이 끝없이 쌓이지 않도록 캐시 크기를 모양 수 한도에 맞춘다
+            if (normalizedCache.size() < maxShapes * 4) {
+                normalizedCache.put(sql, shape);
+            }
+        }
+        return shape;
+    }
+
+    private static class ShapeStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final Set<String> paths = ConcurrentHashMap.newKeySet();
+        private volatile long lastSeen;
+
+        ShapeStats(long lastSeen) {
+            this.lastSeen = lastSeen;
+        }
+
+        void record(long elapsedNanos, String path, long seen) {
+            lastSeen = seen;
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            if (path != null && paths.size() < MAX_PATHS_PER_SHAPE) {
+                paths.add(path);
+            }
+        }
+
+        SqlShapeDto toDto(String sql) {
+            long executions = count.sum();
+            double totalMillis = totalNanos.sum() / 1_000_000.0;
+            return new SqlShapeDto(
+                    sql,
+                    executions,
+                    totalMillis,
+                    executions == 0 ? 0 : totalMillis / executions,
+                    maxNanos.get() / 1_000_000.0,
+                    new ArrayList<>(paths)
+            );
+        }
+    }
+}
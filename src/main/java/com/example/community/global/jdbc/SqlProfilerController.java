@@ -0,0 +1,34 @@
+package com.example.community.global.jdbc;
+
+import com.example.community.global.jdbc.dto.SlowSqlDto;
+import com.example.community.global.jdbc.dto.SqlShapeDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/sql")
+@RequiredArgsConstructor
+public class SqlProfilerController {
+
+    private final SqlProfiler sqlProfiler;
+
+    @GetMapping("/top")
+    public ResponseEntity<List<SqlShapeDto>> findTop(@RequestParam(defaultValue = "10") int n,
+                                                     @RequestParam(defaultValue = "max") String sort) {
+        return ResponseEntity.ok(sqlProfiler.findTop(n, "total".equals(sort)));
+    }
+
+    @GetMapping("/slow")
+    public ResponseEntity<List<SlowSqlDto>> findRecentSlow() {
+        return ResponseEntity.ok(sqlProfiler.findRecentSlow());
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> reset() {
+        sqlProfiler.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
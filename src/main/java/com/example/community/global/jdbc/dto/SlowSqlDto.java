@@ -0,0 +1,16 @@
+package com.example.community.global.jdbc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class SlowSqlDto {
+
+    private String sql;
+    private long elapsedMillis;
+    private String path;
+    private LocalDateTime executedAt;
+}
@@ -0,0 +1,18 @@
+package com.example.community.global.jdbc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class SqlShapeDto {
+
+    private String sql;
+    private long count;
+    private double totalMillis;
+    private double averageMillis;
+    private double maxMillis;
+    private List<String> paths;
+}
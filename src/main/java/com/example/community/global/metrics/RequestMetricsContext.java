@@ -0,0 +1,51 @@
+package com.example.community.global.metrics;
+
+import lombok.Getter;
+
+/**
+ * 요청 하나 동안 실행된 SQL, 로딩된 엔티티, 커넥션 대기 시간을 모으는 스레드 로컬 컨텍스트
+ */
+@Getter
+public class RequestMetricsContext {
+
+    private static final ThreadLocal<RequestMetricsContext> CURRENT = new ThreadLocal<>();
+
+    private final String handler;
+    private final String path;
+    private int statementCount;
+    private long sqlNanos;
+    private int entitiesLoaded;
+    private long connectionWaitNanos;
+
+    private RequestMetricsContext(String handler, String path) {
+        this.handler = handler;
+        this.path = path;
+    }
+
+    public static void start(String handler, String path) {
+        CURRENT.set(new RequestMetricsContext(handler, path));
+    }
+
+    public static RequestMetricsContext current() {
+        return CURRENT.get();
+    }
+
+    public static RequestMetricsContext end() {
+        RequestMetricsContext context = CURRENT.get();
+        CURRENT.remove();
+        return context;
+    }
+
+    public void addStatement(long elapsedNanos) {
+        statementCount++;
+        sqlNanos += elapsedNanos;
+    }
+
+    public void addEntityLoad() {
+        entitiesLoaded++;
+    }
+
+    public void addConnectionWait(long waitNanos) {
+        connectionWaitNanos += waitNanos;
+    }
+}
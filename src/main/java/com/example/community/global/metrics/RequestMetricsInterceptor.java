@@ -0,0 +1,103 @@
+package com.example.community.global.metrics;
+
+import com.example.community.global.jdbc.JdbcExecutionListener;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 메서드별로 요청당 SQL 수/시간, 로딩된 엔티티 수, 커넥션 대기 시간을 기록한다.
+ * 응답 지연시간 분포는 Spring MVC 기본 메트릭(http.server.requests)에 히스토그램을 켜서 함께 노출한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor, JdbcExecutionListener {
+
+    private final MeterRegistry meterRegistry;
+    // 요청마다 빌더로 미터를 찾지 않도록 핸들러별로 한 번만 등록해 두고 기록만 한다
+    private final ConcurrentMap<String, HandlerMeters> metersByHandler = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            String name = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+            // 실제 URI(/boards/42)가 아닌 라우트 패턴(/boards/{id})으로 묶어야 경로 수가 무한히 늘지 않는다
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            RequestMetricsContext.start(name, pattern != null ? pattern.toString() : name);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 스트리밍 응답은 다른 스레드에서 이어지므로 여기서 측정을 끝낸다
+        RequestMetricsContext.end();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestMetricsContext context = RequestMetricsContext.end();
+        if (context == null) {
+            return;
+        }
+        HandlerMeters meters = metersByHandler.computeIfAbsent(context.getHandler(), this::register);
+        meters.sqlStatements.record(context.getStatementCount());
+        meters.sqlTime.record(context.getSqlNanos(), TimeUnit.NANOSECONDS);
+        meters.entitiesLoaded.record(context.getEntitiesLoaded());
+        meters.connectionWait.record(context.getConnectionWaitNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private HandlerMeters register(String handler) {
+        Tags tags = Tags.of("handler", handler);
+        return new HandlerMeters(
+                DistributionSummary.builder("community.request.sql.statements").tags(tags).register(meterRegistry),
+                Timer.builder("community.request.sql.time").tags(tags).register(meterRegistry),
+                DistributionSummary.builder("community.request.entities.loaded").tags(tags).register(meterRegistry),
+                Timer.builder("community.request.connection.wait").tags(tags).register(meterRegistry)
+        );
+    }
+
+    @Override
+    public void onExecute(String sql, long elapsedNanos) {
+        RequestMetricsContext context = RequestMetricsContext.current();
+        if (context != null) {
+            context.addStatement(elapsedNanos);
+        }
+    }
+
+    @Override
+    public void onConnectionAcquired(long waitNanos) {
+        RequestMetricsContext context = RequestMetricsContext.current();
+        if (context != null) {
+            context.addConnectionWait(waitNanos);
+        }
+    }
+
+    private static final class HandlerMeters {
+
+        private final DistributionSummary sqlStatements;
+        private final Timer sqlTime;
+        private final DistributionSummary entitiesLoaded;
+        private final Timer connectionWait;
+
+        private HandlerMeters(DistributionSummary sqlStatements, Timer sqlTime,
+                              DistributionSummary entitiesLoaded, Timer connectionWait) {
+            this.sqlStatements = sqlStatements;
+            this.sqlTime = sqlTime;
+            this.entitiesLoaded = entitiesLoaded;
+            this.connectionWait = connectionWait;
+        }
+    }
+}
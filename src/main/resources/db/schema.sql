@@ -0,0 +1,71 @@
+-- faststart 프로필에서 Hibernate 스키마 생성 대신 사용하는 스키마 (엔티티 매핑과 맞춰야 한다. ddl-auto: validate로 검증)
+
+create sequence if not exists comments_seq start with 1 increment by 50;
+create sequence if not exists notification_outbox_seq start with 1 increment by 50;
+
+create table if not exists users (
+    id         bigint generated by default as identity primary key,
+    name       varchar(255) not null,
+    email      varchar(255) not null,
+    version    bigint,
+    created_at timestamp(6),
+    constraint uk_users_email unique (email)
+);
+
+create table if not exists boards (
+    id         bigint generated by default as identity primary key,
+    title      varchar(255) not null,
+    -- 엔티티는 문자열(VARCHAR)로 매핑되므로 H2에서 CLOB이 되는 text 대신 길이 제한 없는 character varying을 쓴다
+    content    character varying not null,
+    user_id    bigint       not null,
+    view_count bigint       not null,
+    version    bigint,
+    created_at timestamp(6),
+    constraint fk_boards_user foreign key (user_id) references users (id)
+);
+
+create index if not exists idx_boards_created_at on boards (created_at);
+
+create table if not exists comments (
+    id         bigint primary key,
+    content    varchar(255) not null,
+    user_id    bigint       not null,
+    board_id   bigint       not null,
+    parent_id  bigint,
+    path       varchar(255),
+    depth      integer      not null,
+    version    bigint,
+    created_at timestamp(6),
+    constraint fk_comments_user foreign key (user_id) references users (id),
+    constraint fk_comments_board foreign key (board_id) references boards (id)
+);
+
+create index if not exists idx_comments_board_id_id on comments (board_id, id);
+create index if not exists idx_comments_board_id_path on comments (board_id, path);
+create index if not exists idx_comments_parent_id_id on comments (parent_id, id);
+
+create table if not exists notification_outbox (
+    id           bigint primary key,
+    board_id     bigint not null,
+    comment_id   bigint not null,
+    commenter_id bigint not null,
+    created_at   timestamp(6),
+    attempts     integer      not null,
+    available_at timestamp(6) not null
+);
+
+create table if not exists board_archive (
+    board_id         bigint primary key,
+    comment_count    integer not null,
+    raw_size         bigint  not null,
+    payload          blob    not null,
+    board_created_at timestamp(6),
+    archived_at      timestamp(6)
+);
+
+create table if not exists comment_archive_index (
+    comment_id bigint primary key,
+    board_id   bigint not null
+);
+
+create index if not exists idx_comment_archive_index_board_id on comment_archive_index (board_id);
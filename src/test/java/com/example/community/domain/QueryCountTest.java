@@ -0,0 +1,110 @@
+package com.example.community.domain;
+
+import com.example.community.domain.board.Board;
+import com.example.community.domain.board.BoardRepository;
+import com.example.community.domain.board.BoardService;
+import com.example.community.domain.comment.Comment;
+import com.example.community.domain.comment.CommentRepository;
+import com.example.community.domain.comment.CommentService;
+import com.example.community.domain.user.User;
+import com.example.community.domain.user.UserRepository;
+import com.example.community.global.common.CursorRequest;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 쿼리 수 테스트
+ * 게시글/댓글 목록과 단건 조회가 작성자 수와 무관하게 일정한 수의 SQL만 실행하는지 검증한다. (N+1 방지)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class QueryCountTest {
+
+    private static final int AUTHOR_COUNT = 5;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CommentService commentService;
+
+    private Statistics statistics;
+    private Long boardId;
+    private Long commentId;
+
+    @BeforeEach
+    void setUp() {
+        // 작성자가 모두 다른 게시글/댓글을 만들어 지연 로딩이 일어나면 쿼리 수가 늘어나도록 한다
+        for (int i = 0; i < AUTHOR_COUNT; i++) {
+            User user = userRepository.save(
+                    User.builder().name("작성자" + i).email("author" + i + "@example.com").build()
+            );
+            Board board = boardRepository.save(
+                    Board.builder().title("제목" + i).content("내용" + i).user(user).build()
+            );
+            Comment comment = commentRepository.save(
+                    Comment.builder().content("댓글" + i).user(user).board(board).build()
+            );
+            boardId = board.getId();
+            commentId = comment.getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회는 쿼리 1번")
+    void boardFindAll_singleStatement() {
+        boardService.findAll(new CursorRequest(null, null));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("게시글 단건 조회는 쿼리 1번")
+    void boardFindById_singleStatement() {
+        boardService.findById(boardId);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("댓글 목록 조회는 쿼리 1번")
+    void commentFindAll_singleStatement() {
+        commentService.findAll(new CursorRequest(null, null));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("댓글 단건 조회는 쿼리 1번")
+    void commentFindById_singleStatement() {
+        commentService.findById(commentId);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
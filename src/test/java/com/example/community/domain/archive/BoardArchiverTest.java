@@ -0,0 +1,147 @@
+package com.example.community.domain.archive;
+
+import com.example.community.domain.archive.dto.ArchiveReportDto;
+import com.example.community.domain.board.BoardRepository;
+import com.example.community.domain.board.BoardSearchIndex;
+import com.example.community.domain.board.BoardService;
+import com.example.community.domain.board.BoardViewCounter;
+import com.example.community.domain.board.dto.BoardCreateDto;
+import com.example.community.domain.board.dto.BoardResponseDto;
+import com.example.community.domain.comment.CommentService;
+import com.example.community.domain.comment.dto.CommentCreateDto;
+import com.example.community.domain.comment.dto.CommentResponseDto;
+import com.example.community.domain.user.User;
+import com.example.community.domain.user.UserRepository;
+import com.example.community.global.common.CursorRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * 오래된 게시글 보관 테스트
+ * 기준 시각 이전 게시글과 댓글이 운영 테이블에서 빠지고, 기존 조회 API로는 그대로 읽히는지 검증한다.
+ * 배치 트랜잭션의 롤백과 커밋 후 정리 작업을 실제로 거치도록 테스트 트랜잭션 없이 실행하고, 만든 데이터는 직접 지운다.
+ */
+@SpringBootTest
+class BoardArchiverTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private BoardSearchIndex boardSearchIndex;
+
+    @Autowired
+    private BoardViewCounter boardViewCounter;
+
+    @Autowired
+    private BoardArchiver boardArchiver;
+
+    @SpyBean
+    private BoardArchiveStore boardArchiveStore;
+
+    private final List<Long> boardIds = new ArrayList<>();
+    // 운영 테이블에 남는 댓글. 게시글보다 먼저 지워야 한다
+    private final List<Long> hotCommentIds = new ArrayList<>();
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder().name("작성자").email("archive@example.com").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 운영 테이블과 보관소 어느 쪽에 있든 지운다
+        hotCommentIds.forEach(commentService::delete);
+        boardIds.forEach(boardService::delete);
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("기준 시각 이전 게시글은 보관되고 조회는 보관소에서 그대로 된다")
+    void archive_movesOldBoardsAndKeepsReads() {
+        // given
+        BoardResponseDto old = createBoard("오래된 글");
+        CommentResponseDto root = commentService.create(new CommentCreateDto("댓글", user.getId(), old.getId()));
+        CommentResponseDto reply = commentService.create(new CommentCreateDto("답글", user.getId(), old.getId(), root.getId()));
+        LocalDateTime cutoff = LocalDateTime.now();
+        BoardResponseDto recent = createBoard("새 글");
+        assertThat(boardSearchIndex.search("오래된", 10)).contains(old.getId());
+
+        // when
+        ArchiveReportDto report = boardArchiver.archiveCreatedBefore(cutoff);
+
+        // then
+        assertThat(report.getArchivedBoards()).isEqualTo(1);
+        assertThat(report.getArchivedComments()).isEqualTo(2);
+        assertThat(report.getHotBoardsAfter()).isEqualTo(report.getHotBoardsBefore() - 1);
+        assertThat(report.getHotCommentsAfter()).isEqualTo(report.getHotCommentsBefore() - 2);
+        assertThat(report.getCompressedBytes()).isPositive();
+        assertThat(boardRepository.existsById(old.getId())).isFalse();
+        assertThat(boardRepository.existsById(recent.getId())).isTrue();
+
+        assertThat(boardService.findById(old.getId()).getTitle()).isEqualTo("오래된 글");
+        assertThat(commentService.findById(reply.getId()).getParentId()).isEqualTo(root.getId());
+        assertThat(commentService.findAllByBoardId(old.getId(), new CursorRequest(null, null)).getContent())
+                .extracting(CommentResponseDto::getId)
+                .containsExactly(root.getId(), reply.getId());
+        assertThat(commentService.findThread(root.getId(), null, new CursorRequest(null, null)).getContent())
+                .extracting(CommentResponseDto::getDepth)
+                .containsExactly(0, 1);
+
+        // 커밋 후 검색 색인에서 빠지고, 보관된 게시글은 조회해도 조회수를 세지 않는다
+        assertThat(boardSearchIndex.search("오래된", 10)).doesNotContain(old.getId());
+        boardService.findResponseById(old.getId());
+        assertThat(boardViewCounter.getPending(old.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("배치가 실패하면 그 배치는 롤백되어 게시글과 댓글이 운영 테이블에 남는다")
+    void archive_failedBatchRollsBack() {
+        // given
+        BoardResponseDto old = createBoard("오래된 글");
+        CommentResponseDto comment = commentService.create(new CommentCreateDto("댓글", user.getId(), old.getId()));
+        hotCommentIds.add(comment.getId());
+        LocalDateTime cutoff = LocalDateTime.now();
+        doThrow(new DataIntegrityViolationException("concurrent comment"))
+                .when(boardArchiveStore).save(any());
+
+        // when
+        ArchiveReportDto report = boardArchiver.archiveCreatedBefore(cutoff);
+
+        // then
+        assertThat(report.getArchivedBoards()).isZero();
+        assertThat(boardRepository.existsById(old.getId())).isTrue();
+        assertThat(commentService.findById(comment.getId()).getBoardId()).isEqualTo(old.getId());
+        assertThat(boardArchiveStore.exists(old.getId())).isFalse();
+    }
+
+    private BoardResponseDto createBoard(String title) {
+        BoardResponseDto board = boardService.create(new BoardCreateDto(title, "내용", user.getId()));
+        boardIds.add(board.getId());
+        return board;
+    }
+}
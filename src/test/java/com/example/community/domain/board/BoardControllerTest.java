@@ -2,10 +2,36 @@ package com.example.community.domain.board;
 
 import com.example.community.domain.board.dto.BoardCreateDto;
 import com.example.community.domain.board.dto.BoardUpdateDto;
+import com.example.community.domain.comment.Comment;
+import com.example.community.domain.comment.CommentRepository;
 import com.example.community.domain.user.User;
 import com.example.community.domain.user.UserRepository;
+import com.example.community.domain.user.dto.UserUpdateDto;
 import com.example.community.util.CrudControllerTest;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasLength;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
  * Board 컨트롤러 테스트
@@ -19,6 +45,18 @@ class BoardControllerTest extends CrudControllerTest<BoardCreateDto, BoardUpdate
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private BoardViewCounter boardViewCounter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private Long testUserId;
 
     @Override
@@ -58,7 +96,230 @@ class BoardControllerTest extends CrudControllerTest<BoardCreateDto, BoardUpdate
         return boardRepository.save(board).getId();
     }
 
-    // 필요시 Board 전용 추가 테스트 작성 가능
-    // @Test
-    // void 게시글_검색() { ... }
+    @Test
+    @DisplayName("목록 조회 - 커서 기반 페이지네이션")
+    void findAll_cursorPagination() throws Exception {
+        // given
+        User user = userRepository.save(
+                User.builder().name("페이지유저").email("paging@example.com").build()
+        );
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(boardRepository.save(
+                    Board.builder().title("제목" + i).content("내용" + i).user(user).build()
+            ).getId());
+        }
+        long before = ids.get(0) - 1;
+
+        // when & then
+        api.get(getBaseUrl() + "?after=" + before + "&limit=2")
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].id").value(ids.get(0)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(ids.get(1)));
+
+        api.get(getBaseUrl() + "?after=" + ids.get(1) + "&limit=2")
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(ids.get(2)))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("목록 조회 - 본문 대신 발췌와 댓글 수를 반환")
+    void findAll_summary() throws Exception {
+        // given
+        User user = userRepository.save(
+                User.builder().name("요약유저").email("summary@example.com").build()
+        );
+        Board board = boardRepository.save(
+                Board.builder().title("긴 글").content("가".repeat(BoardRepository.EXCERPT_LENGTH * 5)).user(user).build()
+        );
+        commentRepository.save(Comment.builder().content("댓글").user(user).board(board).build());
+
+        // when & then
+        api.get(getBaseUrl() + "?after=" + (board.getId() - 1) + "&limit=1")
+                .andExpect(jsonPath("$.content[0].title").value("긴 글"))
+                .andExpect(jsonPath("$.content[0].userName").value("요약유저"))
+                .andExpect(jsonPath("$.content[0].excerpt", hasLength(BoardRepository.EXCERPT_LENGTH)))
+                .andExpect(jsonPath("$.content[0].commentCount").value(1))
+                .andExpect(jsonPath("$.content[0].content").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("내보내기 - 한 줄에 게시글 하나씩 NDJSON으로 출력")
+    void export_ndjson() throws Exception {
+        // given
+        Long id = setupTestData();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        boardService.export(out);
+
+        // then
+        List<Long> exportedIds = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            exportedIds.add(objectMapper.readTree(line).get("id").asLong());
+        }
+        assertThat(exportedIds).contains(id);
+    }
+
+    @Test
+    @DisplayName("단건 조회 캐시 - 게시글 수정과 작성자 이름 변경 시 무효화")
+    void findById_cacheInvalidation() throws Exception {
+        // given
+        Long id = setupTestData();
+        api.get(getBaseUrl() + "/" + id)
+                .andExpect(jsonPath("$.title").value("테스트 게시글"));
+
+        // when
+        api.put(getBaseUrl() + "/" + id, updateSampleDto());
+        api.put("/users/" + testUserId, new UserUpdateDto("바뀐이름", "renamed@example.com"));
+
+        // then
+        api.get(getBaseUrl() + "/" + id)
+                .andExpect(jsonPath("$.title").value("수정된 제목"))
+                .andExpect(jsonPath("$.userName").value("바뀐이름"));
+    }
+
+    @Test
+    @DisplayName("요청 메트릭 - 컨트롤러 메서드별 SQL 실행 수 기록")
+    void requestMetrics_recordsSqlStatements() throws Exception {
+        // given
+        setupTestData();
+
+        // when
+        api.get(getBaseUrl());
+
+        // then
+        DistributionSummary statements = meterRegistry.find("community.request.sql.statements")
+                .tag("handler", "BoardController.findAll")
+                .summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.count()).isGreaterThanOrEqualTo(1);
+        assertThat(statements.totalAmount()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조건부 조회 - ETag가 같으면 304 Not Modified")
+    void findById_notModified() throws Exception {
+        // given
+        Long id = setupTestData();
+        String etag = api.get(getBaseUrl() + "/" + id)
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        mockMvc.perform(get(getBaseUrl() + "/" + id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+    @Test
+    @DisplayName("단건 조회 - 아직 반영되지 않은 조회수까지 더한 현재 조회수를 헤더로 보낸다")
+    void findById_viewCountIncludesPending() throws Exception {
+        // given
+        Long id = setupTestData();
+        String etag = api.get(getBaseUrl() + "/" + id)
+                .andExpect(header().string(BoardController.VIEW_COUNT_HEADER, "1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then: 304 응답도 조회로 세고 현재 조회수를 싣는다
+        mockMvc.perform(get(getBaseUrl() + "/" + id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(BoardController.VIEW_COUNT_HEADER, "2"));
+    }
+
+    @Test
+    @DisplayName("조회수 반영 후에도 같은 ETag에는 같은 본문이 나가고, 바뀐 조회수는 헤더로 받는다")
+    void findById_etagStableAcrossViewFlush() throws Exception {
+        // given
+        Long id = setupTestData();
+        MockHttpServletResponse first = api.get(getBaseUrl() + "/" + id)
+                .andExpect(jsonPath("$.viewCount").doesNotExist())
+                .andReturn().getResponse();
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        api.get(getBaseUrl() + "/" + id);
+
+        // when: 누적된 조회수가 DB와 캐시에 반영된다
+        boardViewCounter.flush();
+
+        // then
+        MockHttpServletResponse afterFlush = api.get(getBaseUrl() + "/" + id)
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(BoardController.VIEW_COUNT_HEADER, "3"))
+                .andReturn().getResponse();
+        assertThat(afterFlush.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+        mockMvc.perform(get(getBaseUrl() + "/" + id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(BoardController.VIEW_COUNT_HEADER, "4"));
+    }
+
+    @Test
+    @DisplayName("조건부 수정 - If-Match가 현재 ETag와 다르면 412 Precondition Failed")
+    void update_preconditionFailed() throws Exception {
+        // given
+        Long id = setupTestData();
+        String etag = api.get(getBaseUrl() + "/" + id)
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(put(getBaseUrl() + "/" + id)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(api.toJson(updateSampleDto())))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+
+        // when & then: 이전 ETag로 다시 수정하면 실패
+        mockMvc.perform(put(getBaseUrl() + "/" + id)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(api.toJson(new BoardUpdateDto("다른 제목", "다른 내용"))))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("단건 조회 - gzip을 허용하면 미리 압축한 본문을 보낸다")
+    void findById_gzipPrecompressed() throws Exception {
+        // given
+        User user = userRepository.save(User.builder().name("압축").email("gzip@example.com").build());
+        Long id = boardRepository.save(
+                Board.builder().title("긴 게시글").content("내용".repeat(2000)).user(user).build()
+        ).getId();
+
+        // when & then
+        byte[] body = mockMvc.perform(get(getBaseUrl() + "/" + id).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).contains("긴 게시글");
+        }
+        api.get(getBaseUrl() + "/" + id)
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$.title").value("긴 게시글"));
+    }
+
+    @Test
+    @DisplayName("단건 조회 - 압축본과 원본은 서로 다른 ETag를 쓰고, 어느 쪽으로도 304를 받는다")
+    void findById_gzipETag() throws Exception {
+        // given
+        User user = userRepository.save(User.builder().name("압축").email("gzip-etag@example.com").build());
+        Long id = boardRepository.save(
+                Board.builder().title("긴 게시글").content("내용".repeat(2000)).user(user).build()
+        ).getId();
+        String identityEtag = api.get(getBaseUrl() + "/" + id)
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String gzipEtag = mockMvc.perform(get(getBaseUrl() + "/" + id).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // then
+        assertThat(gzipEtag).isNotEqualTo(identityEtag).endsWith("-gzip\"");
+        mockMvc.perform(get(getBaseUrl() + "/" + id)
+                        .header(HttpHeaders.IF_NONE_MATCH, gzipEtag)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, gzipEtag));
+        mockMvc.perform(get(getBaseUrl() + "/" + id).header(HttpHeaders.IF_NONE_MATCH, identityEtag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, identityEtag));
+    }
 }
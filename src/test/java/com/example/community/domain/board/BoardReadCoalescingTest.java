@@ -0,0 +1,107 @@
+package com.example.community.domain.board;
+
+import com.example.community.domain.user.User;
+import com.example.community.domain.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 단건 조회 합치기 테스트
+ * 캐시가 빈 상태에서 동시에 들어온 조회가 실제 SQL 한 번만 실행하는지 Hibernate 통계로 센다.
+ * 먼저 끝난 로딩 뒤에 도착한 요청은 캐시에 적중하므로, 스레드 도착 시점과 무관하게 묶음당 쿼리 수는 1이다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // 예약된 아웃박스 조회가 쿼리 수에 섞이지 않게 한다
+        "community.notification.dispatch-interval-ms=3600000"
+})
+class BoardReadCoalescingTest {
+
+    private static final int CONCURRENCY = 50;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private BoardCache boardCache;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+    private Statistics statistics;
+    private User user;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder().name("작성자").email("coalescing@example.com").build());
+        board = boardRepository.save(Board.builder().title("제목").content("내용").user(user).build());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        boardRepository.deleteById(board.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("동시 조회 한 묶음당 게시글 조회 SQL은 한 번만 실행된다")
+    void concurrentBurst_singleQuery() throws Exception {
+        for (int burst = 1; burst <= 2; burst++) {
+            // given
+            boardCache.evict(board.getId());
+            statistics.clear();
+
+            // when
+            List<String> titles = runBurst();
+
+            // then
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(titles).hasSize(CONCURRENCY).containsOnly("제목");
+        }
+    }
+
+    private List<String> runBurst() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return boardService.findById(board.getId()).getTitle();
+            }));
+        }
+        start.countDown();
+
+        List<String> titles = new ArrayList<>();
+        for (Future<String> future : futures) {
+            titles.add(future.get(5, TimeUnit.SECONDS));
+        }
+        return titles;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.community.domain.board;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 검색 색인 테스트
+ * DB 없이 색인 자체의 토큰화, 순위, 증분 갱신을 검증한다.
+ */
+class BoardSearchIndexTest {
+
+    private final BoardSearchIndex index = new BoardSearchIndex(null, null, null);
+
+    @Test
+    @DisplayName("제목에 나온 단어가 본문에만 나온 단어보다 높은 순위")
+    void search_titleRanksHigher() {
+        index.index(1L, "Spring tips", "how to configure jpa");
+        index.index(2L, "Weekly notes", "spring boot and spring data");
+        index.index(3L, "Docker", "compose file");
+
+        assertThat(index.search("spring", 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 한글 단어도 부분 일치로 검색")
+    void search_hangulBigram() {
+        index.index(1L, "공지사항", "게시글을 작성하기 전에 읽어주세요");
+        index.index(2L, "잡담", "오늘 날씨가 좋네요");
+
+        assertThat(index.search("게시글", 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("수정/삭제 시 이전 단어는 더 이상 검색되지 않음")
+    void index_incrementalUpdate() {
+        index.index(1L, "old title", "old content");
+        index.index(1L, "new title", "new content");
+        index.index(2L, "another", "new content");
+
+        assertThat(index.search("old", 10)).isEmpty();
+        assertThat(index.search("new", 10)).containsExactly(1L, 2L);
+
+        index.remove(1L);
+
+        assertThat(index.search("new", 10)).containsExactly(2L);
+    }
+}
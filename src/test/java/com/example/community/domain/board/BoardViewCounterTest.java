@@ -0,0 +1,90 @@
+package com.example.community.domain.board;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 게시글 조회수 누적기 테스트
+ * 동시 증가분이 유실 없이 모이고, 한 번의 배치 UPDATE로 반영되는지 검증한다.
+ */
+class BoardViewCounterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final BoardCache boardCache = mock(BoardCache.class);
+    private final BoardViewCounter counter = new BoardViewCounter(jdbcTemplate, boardCache);
+
+    @Test
+    @DisplayName("동시 조회수 증가가 모두 누적된다")
+    void increment_concurrent() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8_000; i++) {
+            executor.submit(() -> counter.increment(1L));
+        }
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        assertThat(counter.getPending(1L)).isEqualTo(8_000);
+    }
+
+    @Test
+    @DisplayName("flush는 누적분을 한 번의 배치 UPDATE로 반영하고 캐시된 조회수를 올린다")
+    void flush_singleBatch() {
+        counter.increment(1L);
+        counter.increment(1L);
+        counter.increment(2L);
+
+        counter.flush();
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), argThat((List<Object[]> rows) -> rows.size() == 2));
+        verify(boardCache).addViewCount(1L, null, 2L);
+        verify(boardCache).addViewCount(2L, null, 1L);
+        verify(boardCache, never()).evict(anyLong());
+        assertThat(counter.getPending(1L)).isZero();
+
+        counter.flush();
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("flush 실패 시 누적분을 되돌려 다음 주기에 재시도한다")
+    void flush_failureRestoresPending() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new QueryTimeoutException("timeout"));
+        counter.increment(1L);
+
+        counter.flush();
+
+        assertThat(counter.getPending(1L)).isEqualTo(1);
+        verify(boardCache, never()).addViewCount(eq(1L), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("한 주기 동안 조회가 없던 게시글은 추적에서 빠진다")
+    void flush_retiresIdleEntries() {
+        counter.increment(1L);
+        counter.flush();
+        assertThat(counter.size()).isEqualTo(1);
+
+        // when: 다음 주기까지 조회가 없다
+        counter.flush();
+
+        // then
+        assertThat(counter.size()).isZero();
+        counter.increment(1L);
+        assertThat(counter.getPending(1L)).isEqualTo(1);
+    }
+}
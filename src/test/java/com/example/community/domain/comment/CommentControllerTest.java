@@ -3,10 +3,21 @@ package com.example.community.domain.comment;
 import com.example.community.domain.board.Board;
 import com.example.community.domain.board.BoardRepository;
 import com.example.community.domain.comment.dto.CommentCreateDto;
+import com.example.community.domain.comment.dto.CommentResponseDto;
 import com.example.community.domain.user.User;
 import com.example.community.domain.user.UserRepository;
 import com.example.community.util.CrudControllerTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
  * Comment 컨트롤러 테스트
@@ -18,6 +29,9 @@ class CommentControllerTest extends CrudControllerTest<CommentCreateDto, Void> {
     @Autowired
     private CommentRepository commentRepository;
 
+    @Autowired
+    private CommentService commentService;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -66,4 +80,178 @@ class CommentControllerTest extends CrudControllerTest<CommentCreateDto, Void> {
                 .build();
         return commentRepository.save(comment).getId();
     }
+
+    @Test
+    @DisplayName("게시글별 댓글 조회 - 해당 게시글의 댓글만 커서 기반으로 조회")
+    void findAllByBoard_success() throws Exception {
+        // given
+        Long commentId = setupTestData();
+        User other = userRepository.save(
+                User.builder().name("다른작성자").email("other@example.com").build()
+        );
+        Board otherBoard = boardRepository.save(
+                Board.builder().title("다른 게시글").content("내용").user(other).build()
+        );
+        commentRepository.save(Comment.builder().content("다른 댓글").user(other).board(otherBoard).build());
+
+        // when & then
+        api.get("/boards/" + testBoardId + "/comments")
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(commentId))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("게시글별 댓글 조회 실패 - 존재하지 않는 게시글")
+    void findAllByBoard_boardNotFound() throws Exception {
+        api.getNotFound("/boards/99999/comments");
+    }
+
+    @Test
+    @DisplayName("일괄 생성 성공")
+    void createAll_success() throws Exception {
+        // given
+        setupTestData();
+        List<CommentCreateDto> dtos = List.of(
+                new CommentCreateDto("일괄 댓글1", testUserId, testBoardId),
+                new CommentCreateDto("일괄 댓글2", testUserId, testBoardId)
+        );
+
+        // when & then
+        api.post("/comments/bulk", dtos)
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").exists())
+                .andExpect(jsonPath("$[1].boardId").value(testBoardId));
+    }
+
+    @Test
+    @DisplayName("일괄 생성 실패 - 존재하지 않는 게시글")
+    void createAll_boardNotFound() throws Exception {
+        // given
+        setupTestData();
+        List<CommentCreateDto> dtos = List.of(new CommentCreateDto("일괄 댓글", testUserId, 99999L));
+
+        // when & then
+        mockMvc.perform(post("/comments/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(api.toJson(dtos)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("일괄 생성 실패 - 게시글 id가 없으면 400")
+    void createAll_missingBoardId() throws Exception {
+        // given
+        setupTestData();
+        List<CommentCreateDto> dtos = List.of(new CommentCreateDto("일괄 댓글", testUserId, null));
+
+        // when & then
+        mockMvc.perform(post("/comments/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(api.toJson(dtos)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("스레드 조회 - 하위 답글까지 깊이 우선 표시 순서로 조회")
+    void findThread_success() throws Exception {
+        // given
+        setupTestData();
+        CommentResponseDto root = reply(null);
+        CommentResponseDto first = reply(root.getId());
+        CommentResponseDto second = reply(root.getId());
+        CommentResponseDto nested = reply(first.getId());
+
+        // when & then
+        api.get("/comments/" + root.getId() + "/thread")
+                .andExpect(jsonPath("$.content.length()").value(4))
+                .andExpect(jsonPath("$.content[0].id").value(root.getId()))
+                .andExpect(jsonPath("$.content[1].id").value(first.getId()))
+                .andExpect(jsonPath("$.content[2].id").value(nested.getId()))
+                .andExpect(jsonPath("$.content[2].depth").value(2))
+                .andExpect(jsonPath("$.content[3].id").value(second.getId()));
+
+        api.get("/comments/" + root.getId() + "/thread?depth=1&limit=2&after=" + first.getId())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(second.getId()))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("답글 조회 - 직계 답글만 커서 기반으로 조회")
+    void findReplies_success() throws Exception {
+        // given
+        setupTestData();
+        CommentResponseDto root = reply(null);
+        CommentResponseDto first = reply(root.getId());
+        reply(first.getId());
+        CommentResponseDto second = reply(root.getId());
+
+        // when & then
+        api.get("/comments/" + root.getId() + "/replies?limit=1")
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(first.getId()))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        api.get("/comments/" + root.getId() + "/replies?after=" + first.getId())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(second.getId()))
+                .andExpect(jsonPath("$.content[0].parentId").value(root.getId()));
+    }
+
+    @Test
+    @DisplayName("답글 생성 실패 - 최대 깊이 초과")
+    void createReply_depthExceeded() throws Exception {
+        // given
+        setupTestData();
+        CommentResponseDto parent = reply(null);
+        for (int depth = 1; depth <= 10; depth++) {
+            parent = reply(parent.getId());
+        }
+
+        // when & then
+        mockMvc.perform(post("/comments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(api.toJson(new CommentCreateDto("답글", testUserId, testBoardId, parent.getId()))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("댓글 삭제 - 하위 답글도 함께 삭제")
+    void delete_removesSubtree() throws Exception {
+        // given
+        Long otherId = setupTestData();
+        CommentResponseDto root = reply(null);
+        CommentResponseDto child = reply(root.getId());
+        CommentResponseDto grandchild = reply(child.getId());
+
+        // when
+        api.delete("/comments/" + root.getId());
+
+        // then
+        assertThat(commentRepository.existsById(child.getId())).isFalse();
+        assertThat(commentRepository.existsById(grandchild.getId())).isFalse();
+        assertThat(commentRepository.existsById(otherId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("답글 생성 - 경로가 INSERT에 함께 들어가 추가 UPDATE로 버전이 오르지 않는다")
+    void createReply_insertsFinalPath() throws Exception {
+        // given
+        setupTestData();
+        CommentResponseDto root = reply(null);
+
+        // when
+        CommentResponseDto child = reply(root.getId());
+        commentRepository.flush();
+
+        // then
+        Comment saved = commentRepository.findById(child.getId()).orElseThrow();
+        assertThat(saved.getPath()).isEqualTo(String.format("%012d/%012d/", root.getId(), child.getId()));
+        assertThat(saved.getVersion()).isZero();
+    }
+
+    private CommentResponseDto reply(Long parentId) {
+        return commentService.create(new CommentCreateDto("답글", testUserId, testBoardId, parentId));
+    }
 }
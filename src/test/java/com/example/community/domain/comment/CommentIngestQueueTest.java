@@ -0,0 +1,103 @@
+package com.example.community.domain.comment;
+
+import com.example.community.domain.comment.dto.CommentCreateDto;
+import com.example.community.domain.comment.dto.CommentIngestStatusDto;
+import com.example.community.domain.comment.dto.CommentResponseDto;
+import com.example.community.global.exception.InvalidRequestException;
+import com.example.community.global.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 댓글 비동기 수집 큐 테스트
+ * 기록 스레드를 띄우지 않고 종료 처리를 직접 호출해, 쌓인 요청이 한 번에 커밋되고 큐가 가득 차면 거절되는지 검증한다.
+ */
+class CommentIngestQueueTest {
+
+    private final CommentService commentService = mock(CommentService.class);
+    private final CommentIngestQueue queue = new CommentIngestQueue(commentService, 2, 500, Duration.ofMinutes(1), 100);
+
+    @Test
+    @DisplayName("종료 시 쌓인 요청을 한 트랜잭션으로 기록한다")
+    void shutdown_groupCommitsPending() throws Exception {
+        // given
+        when(commentService.createAll(anyList())).thenReturn(List.of(response(10L), response(11L)));
+        UUID first = queue.submit(dto()).getProvisionalId();
+        UUID second = queue.submit(dto()).getProvisionalId();
+        assertThat(queue.getStatus(first)).get().extracting(CommentIngestStatusDto::getStatus)
+                .isEqualTo(CommentIngestStatusDto.Status.PENDING);
+
+        // when
+        queue.shutdown();
+
+        // then
+        verify(commentService, times(1)).createAll(anyList());
+        assertThat(queue.getQueueSize()).isZero();
+        assertThat(queue.getStatus(first)).get().extracting(CommentIngestStatusDto::getCommentId).isEqualTo(10L);
+        assertThat(queue.getStatus(second)).get().extracting(CommentIngestStatusDto::getCommentId).isEqualTo(11L);
+        assertThatThrownBy(() -> queue.submit(dto())).isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 거절한다")
+    void submit_queueFull() {
+        queue.submit(dto());
+        queue.submit(dto());
+
+        assertThatThrownBy(() -> queue.submit(dto())).isInstanceOf(ServiceUnavailableException.class);
+        assertThat(queue.getQueueSize()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("참조가 잘못된 요청은 큐에 넣지 않고 바로 거절한다")
+    void submit_invalidReferences() {
+        doThrow(new InvalidRequestException("Board not found: 99999")).when(commentService).validateForIngest(any());
+
+        assertThatThrownBy(() -> queue.submit(dto())).isInstanceOf(InvalidRequestException.class);
+        assertThat(queue.getQueueSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("배치 커밋이 실패하면 건별로 다시 기록해 실패한 요청만 표시한다")
+    void flush_fallsBackToSingleWrites() {
+        // given
+        when(commentService.createAll(anyList())).thenThrow(new IllegalArgumentException("Board not found: [99999]"));
+        when(commentService.create(any()))
+                .thenReturn(response(10L))
+                .thenThrow(new IllegalArgumentException("Board not found: 99999"));
+        UUID valid = queue.submit(dto()).getProvisionalId();
+        UUID invalid = queue.submit(dto()).getProvisionalId();
+
+        // when
+        queue.flush();
+
+        // then
+        assertThat(queue.getStatus(valid)).get().extracting(CommentIngestStatusDto::getStatus)
+                .isEqualTo(CommentIngestStatusDto.Status.CREATED);
+        assertThat(queue.getStatus(invalid)).get().extracting(CommentIngestStatusDto::getError)
+                .isEqualTo("Board not found: 99999");
+    }
+
+    private CommentCreateDto dto() {
+        return new CommentCreateDto("댓글", 1L, 1L);
+    }
+
+    private CommentResponseDto response(Long id) {
+        return new CommentResponseDto(id, "댓글", 1L, "user", 1L, null, 0, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.community.domain.comment;
+
+import com.example.community.domain.comment.dto.CommentResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 SSE 팬아웃 허브 테스트
+ * 전송 스레드를 직접 돌려, 버퍼가 가득 찬 느린 구독자가 게시자를 막지 않고 끊기는지 검증한다.
+ */
+class CommentStreamHubTest {
+
+    private final List<Runnable> pendingDeliveries = new ArrayList<>();
+    private final CommentStreamHub hub = new CommentStreamHub(pendingDeliveries::add, 2, Duration.ofMinutes(1), Duration.ofSeconds(10));
+
+    @Test
+    @DisplayName("게시글별로 구독자가 분리된다")
+    void subscribersArePerBoard() {
+        hub.subscribe(1L);
+        hub.subscribe(1L);
+        hub.subscribe(2L);
+
+        hub.publish(comment(10L, 1L));
+
+        assertThat(hub.getSubscriberCount(1L)).isEqualTo(2);
+        assertThat(hub.getSubscriberCount(2L)).isEqualTo(1);
+        assertThat(pendingDeliveries).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("구독자당 전송 작업은 하나만 예약된다")
+    void deliveryIsScheduledOncePerSubscriber() {
+        hub.subscribe(1L);
+
+        hub.publish(comment(10L, 1L));
+        hub.publish(comment(11L, 1L));
+
+        assertThat(pendingDeliveries).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 찬 느린 구독자는 연결이 끊긴다")
+    void slowSubscriberIsDisconnected() {
+        hub.subscribe(1L);
+
+        hub.publish(comment(10L, 1L));
+        hub.publish(comment(11L, 1L));
+        hub.publish(comment(12L, 1L));
+
+        assertThat(hub.getSubscriberCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("하트비트는 구독자마다 전송을 한 번 예약한다")
+    void heartbeatSchedulesDelivery() {
+        hub.subscribe(1L);
+        hub.subscribe(2L);
+
+        hub.heartbeat();
+
+        assertThat(pendingDeliveries).hasSize(2);
+        assertThat(hub.getSubscriberCount(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쓰기 제한 시간 안에 전송이 끝나지 않은 구독자는 하트비트 때 끊긴다")
+    void stalledSubscriberIsDisconnected() {
+        // 전송 작업을 실행하지 않아 쓰기가 막힌 것과 같은 상태를 만든다
+        CommentStreamHub stalledHub = new CommentStreamHub(pendingDeliveries::add, 2, Duration.ofMinutes(1), Duration.ZERO);
+        stalledHub.subscribe(1L);
+        stalledHub.publish(comment(10L, 1L));
+
+        stalledHub.heartbeat();
+
+        assertThat(stalledHub.getSubscriberCount(1L)).isZero();
+    }
+
+    private CommentResponseDto comment(Long id, Long boardId) {
+        return new CommentResponseDto(id, "content", 1L, "user", boardId, null, 0, LocalDateTime.now());
+    }
+}
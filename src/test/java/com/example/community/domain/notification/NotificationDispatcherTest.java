@@ -0,0 +1,136 @@
+package com.example.community.domain.notification;
+
+import com.example.community.domain.board.Board;
+import com.example.community.domain.board.BoardRepository;
+import com.example.community.domain.comment.CommentService;
+import com.example.community.domain.comment.dto.CommentCreateDto;
+import com.example.community.domain.user.User;
+import com.example.community.domain.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * 댓글 알림 발송 테스트
+ * 댓글과 함께 아웃박스가 기록되고, 같은 게시글의 댓글이 하나의 알림으로 합쳐져 발송되는지 검증한다.
+ * 발송에 실패한 알림은 뒤로 미뤄지고 나머지 알림은 막히지 않는지, 최대 시도 횟수를 넘으면 버려지는지도 확인한다.
+ */
+@SpringBootTest(properties = "community.notification.dispatch-interval-ms=3600000")
+@Transactional
+class NotificationDispatcherTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private NotificationDispatcher dispatcher;
+
+    @SpyBean
+    private InMemoryNotificationSink sink;
+
+    private User author;
+    private User commenter;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAllInBatch();
+        sink.clear();
+        author = userRepository.save(User.builder().name("작성자").email("outbox-author@example.com").build());
+        commenter = userRepository.save(User.builder().name("댓글러").email("outbox-commenter@example.com").build());
+        board = boardRepository.save(Board.builder().title("제목").content("내용").user(author).build());
+    }
+
+    @Test
+    @DisplayName("같은 게시글의 댓글은 작성자에게 하나의 알림으로 발송된다")
+    void coalescesCommentsPerBoard() {
+        commentService.create(new CommentCreateDto("댓글1", commenter.getId(), board.getId()));
+        commentService.create(new CommentCreateDto("댓글2", commenter.getId(), board.getId()));
+        assertThat(outboxRepository.count()).isEqualTo(2);
+
+        dispatcher.dispatch();
+
+        List<Notification> delivered = sink.getDelivered();
+        assertThat(delivered).hasSize(1);
+        assertThat(delivered.get(0).getRecipientId()).isEqualTo(author.getId());
+        assertThat(delivered.get(0).getCommentCount()).isEqualTo(2);
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("자기 게시글에 단 댓글은 알리지 않는다")
+    void skipsOwnComments() {
+        commentService.create(new CommentCreateDto("댓글", author.getId(), board.getId()));
+
+        dispatcher.dispatch();
+
+        assertThat(sink.getDelivered()).isEmpty();
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("발송에 실패한 알림만 뒤로 미루고 나머지는 발송한다")
+    void defersFailedNotifications() {
+        // given
+        Board other = boardRepository.save(Board.builder().title("다른 제목").content("내용").user(author).build());
+        commentService.create(new CommentCreateDto("댓글1", commenter.getId(), board.getId()));
+        commentService.create(new CommentCreateDto("댓글2", commenter.getId(), other.getId()));
+        doThrow(new IllegalStateException("channel rejected")).when(sink).deliver(argThat((List<Notification> notifications) ->
+                notifications.stream().anyMatch(notification -> notification.getBoardId().equals(board.getId()))));
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertThat(sink.getDelivered()).extracting(Notification::getBoardId).containsExactly(other.getId());
+        assertThat(outboxRepository.findAll()).singleElement().satisfies(row -> {
+            assertThat(row.getBoardId()).isEqualTo(board.getId());
+            assertThat(row.getAttempts()).isEqualTo(1);
+            assertThat(row.getAvailableAt()).isAfter(LocalDateTime.now());
+        });
+
+        // 미뤄 둔 행은 재시도 시각 전에는 다시 읽지 않는다
+        dispatcher.dispatch();
+        assertThat(sink.getDelivered()).hasSize(1);
+        assertThat(outboxRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 실패한 알림은 버린다")
+    void dropsExhaustedNotifications() {
+        // given: 이미 9번 실패했고 바로 다시 읽히는 행
+        commentService.create(new CommentCreateDto("댓글", commenter.getId(), board.getId()));
+        List<Long> ids = outboxRepository.findAll().stream().map(NotificationOutbox::getId).toList();
+        for (int i = 0; i < 9; i++) {
+            outboxRepository.deferAll(ids, LocalDateTime.now().minusSeconds(1));
+        }
+        doThrow(new IllegalStateException("channel rejected")).when(sink).deliver(argThat((List<Notification> notifications) -> true));
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertThat(sink.getDelivered()).isEmpty();
+        assertThat(outboxRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.community.domain.user;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 이메일 블룸 필터 테스트
+ * DB 없이 누락이 없는지와 오탐률이 설정값 근처인지 검증한다.
+ */
+class EmailBloomFilterTest {
+
+    private static final int INSERTIONS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final EmailBloomFilter filter = new EmailBloomFilter(
+            mock(UserRepository.class), mock(PlatformTransactionManager.class), true, INSERTIONS, FALSE_POSITIVE_RATE);
+
+    @Test
+    @DisplayName("불러오기 전에는 모든 이메일을 있을 수 있다고 답한다")
+    void beforeLoad_answersMaybe() {
+        assertThat(filter.mightContain("nobody@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("등록한 이메일은 대소문자와 무관하게 항상 있다고 답한다")
+    void registeredEmails_neverMissed() {
+        filter.markLoaded();
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertThat(filter.mightContain("user" + i + "@example.com")).isTrue();
+        }
+        assertThat(filter.mightContain("USER1@Example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("등록하지 않은 이메일의 오탐률은 설정값 근처")
+    void falsePositiveRate_nearConfigured() {
+        filter.markLoaded();
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < INSERTIONS; i++) {
+            if (filter.mightContain("other" + i + "@example.org")) {
+                falsePositives++;
+            }
+        }
+        assertThat((double) falsePositives / INSERTIONS).isLessThan(FALSE_POSITIVE_RATE * 2);
+    }
+}
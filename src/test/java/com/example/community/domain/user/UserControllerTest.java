@@ -2,8 +2,20 @@ package com.example.community.domain.user;
 
 import com.example.community.domain.user.dto.UserCreateDto;
 import com.example.community.domain.user.dto.UserUpdateDto;
+import com.example.community.global.common.MultiGetResponse;
 import com.example.community.util.CrudControllerTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
  * User 컨트롤러 테스트
@@ -14,6 +26,9 @@ class UserControllerTest extends CrudControllerTest<UserCreateDto, UserUpdateDto
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserService userService;
+
     @Override
     protected String getBaseUrl() {
         return "/users";
@@ -31,11 +46,68 @@ class UserControllerTest extends CrudControllerTest<UserCreateDto, UserUpdateDto
 
     @Override
     protected Long setupTestData() {
-        User user = User.builder()
-                .name("테스트유저")
-                .email("test@example.com")
-                .build();
-        return userRepository.save(user).getId();
+        // 이메일 블룸 필터에 반영되도록 서비스를 거쳐 만든다
+        return userService.create(new UserCreateDto("테스트유저", "test@example.com")).getId();
+    }
+
+    @Test
+    @DisplayName("다건 조회 - 요청 순서대로 반환하고 없는 ID는 따로 알려준다")
+    void findAllByIds_preservesOrderAndReportsMissing() throws Exception {
+        // given
+        Long first = userRepository.save(User.builder().name("첫째").email("first@example.com").build()).getId();
+        Long second = userRepository.save(User.builder().name("둘째").email("second@example.com").build()).getId();
+        long missing = second + 1000;
+
+        // when & then
+        api.get(getBaseUrl() + "?ids=" + second + "," + missing + "," + first)
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(second))
+                .andExpect(jsonPath("$.items[1].id").value(first))
+                .andExpect(jsonPath("$.missingIds[0]").value(missing));
+    }
+
+    @Test
+    @DisplayName("다건 조회 - 빈 ID가 섞여 있으면 400 Bad Request")
+    void findAllByIds_emptyId() throws Exception {
+        mockMvc.perform(get(getBaseUrl()).param("ids", "1,,2"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("다건 조회 - ID가 너무 많으면 400 Bad Request")
+    void findAllByIds_tooManyIds() throws Exception {
+        String ids = LongStream.rangeClosed(1, MultiGetResponse.MAX_IDS + 1)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        mockMvc.perform(get(getBaseUrl()).param("ids", ids))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("생성 - 이미 가입된 이메일이면 409 Conflict")
+    void create_duplicateEmail() throws Exception {
+        // given
+        setupTestData();
+
+        // when & then
+        mockMvc.perform(post(getBaseUrl())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(api.toJson(new UserCreateDto("다른이름", "test@example.com"))))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("이메일 사용 가능 여부 확인")
+    void checkEmail() throws Exception {
+        // given
+        setupTestData();
+
+        // when & then
+        api.get(getBaseUrl() + "/email-availability?email=test@example.com")
+                .andExpect(jsonPath("$.available").value(false));
+        api.get(getBaseUrl() + "/email-availability?email=free@example.com")
+                .andExpect(jsonPath("$.available").value(true));
     }
 
     // 필요시 User 전용 추가 테스트 작성 가능
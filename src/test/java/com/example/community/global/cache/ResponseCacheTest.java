@@ -0,0 +1,106 @@
+package com.example.community.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 직렬화 응답 캐시 테스트
+ * 로딩 도중 무효화된 항목이 로딩을 마친 뒤 이전 값으로 다시 캐시에 남지 않는지 검증한다.
+ */
+class ResponseCacheTest {
+
+    private final ResponseCache<String> cache = new ResponseCache<>(
+            new ResponseSerializer(new ObjectMapper(), false, DataSize.ofKilobytes(1)),
+            value -> "\"" + value + "\"", DataSize.ofMegabytes(1), Duration.ofMinutes(10));
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("로딩 중 무효화되면 로딩 결과는 캐시에 남지 않는다")
+    void invalidateDuringLoad_dropsStaleValue() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<CachedResponse<String>> staleRead = executor.submit(() -> cache.get(1L, id -> {
+            loadCount.incrementAndGet();
+            loading.countDown();
+            awaitQuietly(release);
+            return "old";
+        }));
+        loading.await(5, TimeUnit.SECONDS);
+
+        // when: 로딩 중에 수정이 커밋되어 무효화된다
+        cache.invalidate(1L);
+        release.countDown();
+
+        // then
+        assertThat(staleRead.get(5, TimeUnit.SECONDS).getValue()).isEqualTo("old");
+        assertThat(cache.getIfPresent(1L)).isNull();
+        assertThat(cache.get(1L, id -> {
+            loadCount.incrementAndGet();
+            return "new";
+        }).getValue()).isEqualTo("new");
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("로딩 실패는 캐시에 남지 않는다")
+    void failedLoad_isNotCached() {
+        try {
+            cache.get(1L, id -> {
+                throw new IllegalArgumentException("Board not found: 1");
+            });
+        } catch (IllegalArgumentException expected) {
+            // 예외는 호출자에게 그대로 전달된다
+        }
+
+        assertThat(cache.getIfPresent(1L)).isNull();
+        assertThat(cache.get(1L, id -> "found").getValue()).isEqualTo("found");
+    }
+
+    @Test
+    @DisplayName("읽어 둔 항목이 그대로 있으면 값을 바꾸고, 그 사이 다시 로딩됐으면 비운다")
+    void replaceOrInvalidate() {
+        // given
+        CachedResponse<String> snapshot = cache.get(1L, id -> "a");
+        cache.get(2L, id -> "a");
+        CachedResponse<String> staleSnapshot = cache.peek(2L);
+        cache.invalidate(2L);
+        cache.get(2L, id -> "reloaded");
+
+        // when
+        cache.replaceOrInvalidate(1L, snapshot, value -> value + "b");
+        cache.replaceOrInvalidate(2L, staleSnapshot, value -> value + "b");
+
+        // then
+        assertThat(cache.getIfPresent(1L).getValue()).isEqualTo("ab");
+        assertThat(cache.getIfPresent(1L).getEtag()).isEqualTo("\"ab\"");
+        assertThat(cache.getIfPresent(2L)).isNull();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.community.global.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SingleFlight 동시성 테스트
+ * 같은 키로 동시에 들어온 요청이 한 번의 로딩(= 쿼리 1번)을 공유하는지 검증한다.
+ */
+class SingleFlightTest {
+
+    private static final int CONCURRENCY = 50;
+
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("동시 요청 한 묶음당 로딩은 한 번만 실행되고 모두 같은 결과를 받는다")
+    void concurrentBurst_sharesSingleLoad() throws Exception {
+        for (int burst = 1; burst <= 2; burst++) {
+            List<String> results = runBurst(() -> "board-1");
+
+            assertThat(loadCount.get()).isEqualTo(burst);
+            assertThat(results).hasSize(CONCURRENCY).containsOnly("board-1");
+        }
+    }
+
+    @Test
+    @DisplayName("로딩 중 발생한 예외는 대기 중인 모든 요청에 그대로 전달된다")
+    void concurrentBurst_sharesFailure() throws Exception {
+        assertThatThrownBy(() -> runBurst(() -> {
+            throw new IllegalArgumentException("Board not found: 1");
+        }))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    private List<String> runBurst(Supplier<String> loader) throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch arrived = new CountDownLatch(CONCURRENCY);
+        List<Thread> callers = new CopyOnWriteArrayList<>();
+        List<Future<String>> futures = new ArrayList<>();
+
+        for (int i = 0; i < CONCURRENCY; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                callers.add(Thread.currentThread());
+                arrived.countDown();
+                return singleFlight.execute(1L, () -> {
+                    loadCount.incrementAndGet();
+                    awaitQuietly(release);
+                    return loader.get();
+                });
+            }));
+        }
+
+        start.countDown();
+        // 도착한 요청이 모두 로딩 완료(또는 release)를 기다리며 멈춘 뒤에 로딩을 끝낸다
+        arrived.await(5, TimeUnit.SECONDS);
+        while (!callers.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING
+                || thread.getState() == Thread.State.TIMED_WAITING)) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        List<String> results = new ArrayList<>();
+        for (Future<String> future : futures) {
+            results.add(future.get(5, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.community.global.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 계측 DataSource 래퍼 테스트
+ * 감싼 뒤에도 종료 시 커넥션 풀이 닫히는지 검증한다.
+ */
+class InstrumentedDataSourceTest {
+
+    @Test
+    @DisplayName("close()는 감싼 커넥션 풀을 닫는다")
+    void close_closesTargetPool() throws IOException {
+        HikariDataSource pool = mock(HikariDataSource.class);
+
+        new InstrumentedDataSource(pool).close();
+
+        verify(pool).close();
+    }
+}
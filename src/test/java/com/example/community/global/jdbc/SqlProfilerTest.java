@@ -0,0 +1,79 @@
+package com.example.community.global.jdbc;
+
+import com.example.community.global.exception.InvalidRequestException;
+import com.example.community.global.jdbc.dto.SlowSqlDto;
+import com.example.community.global.jdbc.dto.SqlShapeDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SQL 프로파일러 테스트
+ * 리터럴/IN 목록이 달라도 같은 모양으로 묶이고, 느린 SQL만 링 버퍼에 남는지 검증한다.
+ */
+class SqlProfilerTest {
+
+    private final SqlProfiler profiler = new SqlProfiler(100, 500, 2);
+
+    @Test
+    @DisplayName("리터럴과 IN 목록 길이가 달라도 같은 SQL 모양으로 정규화")
+    void normalizeSql() {
+        assertThat(SqlProfiler.normalizeSql("select * from boards where id in (?, ?, ?)"))
+                .isEqualTo(SqlProfiler.normalizeSql("select *\n  from boards where id in (?)"));
+        assertThat(SqlProfiler.normalizeSql("select * from users where email = 'a@b.com' and id = 42"))
+                .isEqualTo("select * from users where email = ? and id = ?");
+    }
+
+    @Test
+    @DisplayName("모양별 횟수/총 시간/최대 시간 집계와 느린 SQL 링 버퍼")
+    void onExecute_aggregatesAndKeepsSlowOnly() {
+        profiler.onExecute("select * from boards where id = 1", TimeUnit.MILLISECONDS.toNanos(5));
+        profiler.onExecute("select * from boards where id = 2", TimeUnit.MILLISECONDS.toNanos(150));
+        profiler.onExecute("select * from users", TimeUnit.MILLISECONDS.toNanos(200));
+        profiler.onExecute("select * from comments", TimeUnit.MILLISECONDS.toNanos(300));
+
+        List<SqlShapeDto> top = profiler.findTop(10, true);
+        SqlShapeDto boards = top.stream()
+                .filter(shape -> shape.getSql().equals("select * from boards where id = ?"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(boards.getCount()).isEqualTo(2);
+        assertThat(boards.getMaxMillis()).isEqualTo(150.0);
+        assertThat(profiler.findTop(1, false).get(0).getSql()).isEqualTo("select * from comments");
+
+        // 링 버퍼 크기가 2이므로 가장 오래된 느린 SQL은 밀려난다
+        assertThat(profiler.findRecentSlow()).hasSize(2)
+                .extracting(SlowSqlDto::getSql)
+                .containsExactlyInAnyOrder("select * from users", "select * from comments");
+    }
+
+    @Test
+    @DisplayName("모양 수 한도를 넘으면 가장 오래 실행되지 않은 모양을 버리고 새 모양을 집계")
+    void onExecute_evictsLeastRecentlySeenShape() {
+        // given
+        SqlProfiler limited = new SqlProfiler(100, 2, 2);
+        limited.onExecute("select * from boards", 1);
+        limited.onExecute("select * from users", 1);
+        limited.onExecute("select * from boards", 1);
+
+        // when
+        limited.onExecute("select * from comments", 1);
+
+        // then
+        assertThat(limited.findTop(10, true))
+                .extracting(SqlShapeDto::getSql)
+                .containsExactlyInAnyOrder("select * from boards", "select * from comments");
+    }
+
+    @Test
+    @DisplayName("음수 n으로 상위 모양을 조회하면 잘못된 요청")
+    void findTop_negativeLimit() {
+        assertThatThrownBy(() -> profiler.findTop(-1, true))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+}
@@ -69,7 +69,8 @@ public abstract class CrudControllerTest<CREATE_DTO, UPDATE_DTO> {
 
         // when & then
         api.get(getBaseUrl())
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.hasNext").exists());
     }
 
     @Test